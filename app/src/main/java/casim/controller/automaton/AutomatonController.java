@@ -12,7 +12,7 @@ import casim.utils.grid.Grid2D;
  */
 public interface AutomatonController<S> extends Iterator<Grid2D<S>> {
     /**
-     * Get the current state grid.
+     * Get the current state grid, as a read-only view of the automaton grid.
      * 
      * @return the state grid.
      */
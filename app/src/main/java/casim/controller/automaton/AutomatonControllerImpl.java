@@ -39,12 +39,12 @@ public class AutomatonControllerImpl<S, T extends AbstractCell<S>> implements Au
 
     @Override
     public Grid2D<S> next() {
-        return this.automaton.next().map(AbstractCell::getState);
+        return this.automaton.next().view(AbstractCell::getState);
     }
 
     @Override
     public Grid2D<S> getGrid() {
-        return this.automaton.getGrid().map(AbstractCell::getState);
+        return this.automaton.getGrid().view(AbstractCell::getState);
     }
 
     @Override
@@ -26,7 +26,7 @@ public class CoDiControllerImpl extends AutomatonControllerImpl<CoDiCellState, C
      * @return the {@link Grid2D} after the shift.
      */
     public Grid2D<CoDiCellState> outputLayerRightShift() {
-        return ((CoDi) this.getAutomaton()).outputLayerRightShift().map(AbstractCell::getState);
+        return ((CoDi) this.getAutomaton()).outputLayerRightShift().view(AbstractCell::getState);
     }
 
     /**
@@ -35,7 +35,7 @@ public class CoDiControllerImpl extends AutomatonControllerImpl<CoDiCellState, C
      * @return the {@link Grid2D} after the shift.
      */
     public Grid2D<CoDiCellState> outputLayerLeftShift() {
-        return ((CoDi) this.getAutomaton()).outputLayerLeftShift().map(AbstractCell::getState);
+        return ((CoDi) this.getAutomaton()).outputLayerLeftShift().view(AbstractCell::getState);
     }
 
 }
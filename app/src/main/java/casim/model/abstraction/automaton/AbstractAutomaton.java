@@ -2,6 +2,7 @@ package casim.model.abstraction.automaton;
 
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import casim.model.abstraction.cell.AbstractCell;
 import casim.model.abstraction.utils.stats.Stats;
@@ -16,6 +17,8 @@ import casim.utils.grid.Grid2D;
  */
 public abstract class AbstractAutomaton<S, T extends AbstractCell<S>> implements Automaton<S, T> {
 
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
     private int iterationCounter;
 
     @Override
@@ -58,11 +61,22 @@ public abstract class AbstractAutomaton<S, T extends AbstractCell<S>> implements
      *  in the current {@link Automaton} state. 
      */
     protected Map<S, Integer> createStatesMap() {
-        return this.getGrid().stream()
-            .collect(Collectors.groupingBy(AbstractCell::getState, Collectors.counting()))
+        return this.cellStream()
+            .collect(Collectors.groupingByConcurrent(AbstractCell::getState, Collectors.counting()))
             .entrySet().stream()
             .map(e -> Map.entry(e.getKey(), e.getValue().intValue()))
             .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
+    /**
+     * Return a Stream of the cells of the current {@link Automaton} state, that is parallel
+     * if the grid is large enough to be worth splitting among the available cores.
+     * 
+     * @return a Stream of the cells of the current state.
+     */
+    protected Stream<T> cellStream() {
+        final Grid2D<T> grid = this.getGrid();
+        return (long) grid.getHeight() * grid.getWidth() >= PARALLEL_THRESHOLD ? grid.parallelStream() : grid.stream();
+    }
+
 }
@@ -0,0 +1,54 @@
+package casim.model.abstraction.automaton;
+
+import casim.model.abstraction.cell.AbstractCell;
+import casim.utils.grid.DoubleBuffer;
+import casim.utils.grid.Grid2D;
+
+/**
+ * Abstract class for synchronous {@link Automaton}s that compute each generation into a {@link DoubleBuffer},
+ * reusing the same two grids instead of allocating a new one at every step.
+ * The {@link Grid2D} returned by {@link #next()} is overwritten by the second following step, so it must not be kept.
+ *
+ *  @param <T> the {@link AbstractCell} implementation used by the {@link Automaton}.
+ *  @param <S> the states type for the states an {@link Automaton} cell can assume.
+ *  @param <G> the {@link Grid2D} implementation of the buffers.
+ */
+public abstract class AbstractBufferedAutomaton<S, T extends AbstractCell<S>, G extends Grid2D<T>>
+        extends AbstractAutomaton<S, T> {
+
+    private final DoubleBuffer<G> buffer;
+
+    /**
+     * Construct a new {@link AbstractBufferedAutomaton}.
+     *
+     * @param buffer the {@link DoubleBuffer} whose front holds the initial state of the {@link Automaton}.
+     */
+    protected AbstractBufferedAutomaton(final DoubleBuffer<G> buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Compute the next generation, then swap the buffers.
+     */
+    @Override
+    protected final Grid2D<T> doStep() {
+        this.computeNextGeneration(this.buffer.getFront(), this.buffer.getBack());
+        return this.buffer.swap();
+    }
+
+    /**
+     * Method used to write the next {@link Automaton} generation.
+     * Every cell of the next grid has to be written, because it still holds the previous generation,
+     * unless the cell is known to be unchanged in the last step, as with {@link casim.model.abstraction.utils.ActiveTiles}.
+     *
+     * @param current the {@link Grid2D} holding the current generation.
+     * @param next the {@link Grid2D} where the next generation must be written.
+     */
+    protected abstract void computeNextGeneration(G current, G next);
+
+    @Override
+    public Grid2D<T> getGrid() {
+        return this.buffer.getFront();
+    }
+
+}
@@ -0,0 +1,44 @@
+package casim.model.abstraction.rule;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import casim.model.abstraction.cell.AbstractCell;
+import casim.model.abstraction.utils.NeighborsCountFunction;
+import casim.utils.coordinate.Coordinates;
+import casim.utils.grid.Grid;
+
+/**
+ * Abstract implementation of {@link UpdateRule} for the totalistic rules, that compute the next cell
+ * from the number of neighbors given by a {@link NeighborsCountFunction} instead of a list of neighbors.
+ *
+ *  @param <T> the {@link AbstractCell} implementation to update.
+ *  @param <C> the {@link Coordinates} implementation used by the cell (it can be 2D or 3D).
+ */
+public abstract class AbstractCountingUpdateRule<C extends Coordinates<? extends Number>, T extends AbstractCell<?>>
+        implements UpdateRule<C, T> {
+
+    private final NeighborsCountFunction<C, T> countFunction;
+
+    /**
+     * Constructor of an abstract counting {@link UpdateRule}.
+     *
+     * @param countFunction used to count the neighbors of a given cell.
+     */
+    public AbstractCountingUpdateRule(final NeighborsCountFunction<C, T> countFunction) {
+        this.countFunction = countFunction;
+    }
+
+    @Override
+    public T getNextCell(final Pair<C, T> cellPair, final Grid<C, T> grid) {
+        return this.nextCell(cellPair.getRight(), this.countFunction.count(cellPair, grid));
+    }
+
+    /**
+     * Abstract method used to calculate the updated cell of the one taken as input.
+     *
+     * @param cell the cell to update.
+     * @param neighbors the number of neighbors counted by the {@link NeighborsCountFunction}.
+     * @return the new updated Cell.
+     */
+    protected abstract T nextCell(T cell, int neighbors);
+}
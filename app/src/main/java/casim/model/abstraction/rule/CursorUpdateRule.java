@@ -0,0 +1,23 @@
+package casim.model.abstraction.rule;
+
+import casim.model.abstraction.cell.AbstractCell;
+
+/**
+ * Rule used to update the Cell's state, that reads the neighbors through a {@link NeighborCursor}
+ * instead of receiving a list of them, so that the engine does not allocate anything for each cell.
+ *
+ * @param <T> the {@link AbstractCell} implementation to update.
+ */
+@FunctionalInterface
+public interface CursorUpdateRule<T extends AbstractCell<?>> {
+
+    /**
+     * Return the updated Cell.
+     *
+     * @param cell the cell to update.
+     * @param neighbors the cursor over the neighbors of the cell.
+     * @return the updated cell.
+     */
+    T getNextCell(T cell, NeighborCursor<T> neighbors);
+
+}
@@ -0,0 +1,74 @@
+package casim.model.abstraction.rule;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link TotalisticRule} applied to the states of an enumeration, mapped to the numbered states of the rule.
+ *
+ * @param <E> the enumeration of the states.
+ */
+public final class EnumTotalisticRule<E extends Enum<E>> {
+
+    private final TotalisticRule rule;
+    private final List<E> states;
+    private final int[] ids;
+
+    /**
+     * Construct a new {@link EnumTotalisticRule}.
+     *
+     * @param rule the rule, in one of the notations supported by {@link TotalisticRule#parse(String)}.
+     * @param states the states in the order of the rule: dead, alive and then the dying ones.
+     * @throws IllegalArgumentException if the rule is not valid, it has a different number of states
+     *     or a state is repeated.
+     */
+    public EnumTotalisticRule(final String rule, final List<E> states) {
+        this.rule = TotalisticRule.parse(rule);
+        if (states.size() != this.rule.getStates()) {
+            throw new IllegalArgumentException("The rule " + rule + " needs " + this.rule.getStates() + " states.");
+        }
+        this.states = List.copyOf(states);
+        this.ids = new int[states.get(0).getDeclaringClass().getEnumConstants().length];
+        Arrays.fill(this.ids, -1);
+        for (int i = 0; i < states.size(); i++) {
+            if (this.ids[states.get(i).ordinal()] != -1) {
+                throw new IllegalArgumentException("Repeated state: " + states.get(i));
+            }
+            this.ids[states.get(i).ordinal()] = i;
+        }
+    }
+
+    /**
+     * Return the next state of a cell.
+     *
+     * @param state the current state of the cell.
+     * @param aliveNeighbors the number of alive neighbors of the cell.
+     * @return the next state of the cell.
+     * @throws IllegalArgumentException if the state is not one of the states of the rule.
+     */
+    public E next(final E state, final int aliveNeighbors) {
+        final int id = this.ids[state.ordinal()];
+        if (id == -1) {
+            throw new IllegalArgumentException("Unknown state: " + state);
+        }
+        return this.states.get(this.rule.next(id, aliveNeighbors));
+    }
+
+    /**
+     * Return the state counted as alive by the rule.
+     *
+     * @return the alive state.
+     */
+    public E getAlive() {
+        return this.states.get(1);
+    }
+
+    /**
+     * Return the compiled rule.
+     *
+     * @return the {@link TotalisticRule}.
+     */
+    public TotalisticRule getRule() {
+        return this.rule;
+    }
+}
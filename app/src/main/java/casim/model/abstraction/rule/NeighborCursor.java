@@ -0,0 +1,44 @@
+package casim.model.abstraction.rule;
+
+import java.util.function.Predicate;
+
+/**
+ * Reusable read-only view of the neighbors of the cell that is being updated.
+ * The engine moves the same cursor from cell to cell, so a rule must not keep it
+ * after {@link CursorUpdateRule#getNextCell(Object, NeighborCursor)} returns.
+ *
+ * @param <T> the type of the cells.
+ */
+public interface NeighborCursor<T> {
+
+    /**
+     * Return the number of neighbors of the current cell.
+     *
+     * @return the number of neighbors.
+     */
+    int size();
+
+    /**
+     * Return one of the neighbors of the current cell.
+     *
+     * @param neighbor the position of the neighbor, between 0 (included) and {@link #size()} (excluded).
+     * @return the neighbor cell.
+     */
+    T get(int neighbor);
+
+    /**
+     * Count the neighbors of the current cell that satisfy a predicate.
+     *
+     * @param predicate the condition that the counted neighbors have to satisfy.
+     * @return the number of the neighbors that satisfy the predicate.
+     */
+    default int count(final Predicate<? super T> predicate) {
+        int count = 0;
+        for (int i = 0; i < this.size(); i++) {
+            if (predicate.test(this.get(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,138 @@
+package casim.model.abstraction.rule;
+
+import java.util.Locale;
+
+/**
+ * Totalistic rule of a two dimensional automaton with the moore neighborhood, compiled in a lookup table
+ * indexed by the state of the cell and the number of its alive neighbors.
+ * The states are numbered as in the Generations rules: 0 is dead, 1 is alive and the following ones
+ * are the dying states, that a cell goes through one generation each before becoming dead again.
+ * Only the alive neighbors are counted.
+ * The rule is parsed from one of the standard notations:
+ * <ul>
+ * <li>{@code B3/S23}: Life-like rule, in the birth/survival notation;</li>
+ * <li>{@code 23/3}: Life-like rule, in the survival/birth notation;</li>
+ * <li>{@code B2/S/C3}: Generations rule, in the birth/survival/count notation;</li>
+ * <li>{@code /2/3}: Generations rule, in the survival/birth/count notation.</li>
+ * </ul>
+ */
+public final class TotalisticRule {
+
+    /**
+     * The maximum number of neighbors of a cell.
+     */
+    public static final int MAX_NEIGHBORS = 8;
+    private static final int STRIDE = MAX_NEIGHBORS + 1;
+    private static final String INVALID_RULE = "Invalid rule: ";
+
+    private final String notation;
+    private final int states;
+    private final int[] table;
+
+    private TotalisticRule(final String notation, final boolean[] birth, final boolean[] survival, final int states) {
+        this.notation = notation;
+        this.states = states;
+        this.table = new int[states * STRIDE];
+        for (int count = 0; count < STRIDE; count++) {
+            this.table[count] = birth[count] ? 1 : 0;
+            this.table[STRIDE + count] = survival[count] ? 1 : 2 % states;
+            for (int state = 2; state < states; state++) {
+                this.table[state * STRIDE + count] = (state + 1) % states;
+            }
+        }
+    }
+
+    /**
+     * Parse a rule written in one of the supported notations.
+     *
+     * @param rule the rule, such as {@code B3/S23} or {@code /2/3}.
+     * @return the compiled {@link TotalisticRule}.
+     * @throws IllegalArgumentException if the rule is not valid.
+     */
+    public static TotalisticRule parse(final String rule) {
+        final String[] parts = rule.trim().toUpperCase(Locale.ROOT).split("/", -1);
+        final boolean[] birth = new boolean[STRIDE];
+        final boolean[] survival = new boolean[STRIDE];
+        int states = 2;
+        if (parts.length < 2 || parts.length > 3) {
+            throw new IllegalArgumentException(INVALID_RULE + rule);
+        }
+        if (parts[0].startsWith("B") || parts[0].startsWith("S")) {
+            for (final String part : parts) {
+                if (part.isEmpty()) {
+                    throw new IllegalArgumentException(INVALID_RULE + rule);
+                }
+                switch (part.charAt(0)) {
+                    case 'B':
+                        parseCounts(part.substring(1), birth, rule);
+                        break;
+                    case 'S':
+                        parseCounts(part.substring(1), survival, rule);
+                        break;
+                    case 'C':
+                        states = parseStates(part.substring(1), rule);
+                        break;
+                    default:
+                        throw new IllegalArgumentException(INVALID_RULE + rule);
+                }
+            }
+        } else {
+            parseCounts(parts[0], survival, rule);
+            parseCounts(parts[1], birth, rule);
+            if (parts.length == 3) {
+                states = parseStates(parts[2], rule);
+            }
+        }
+        return new TotalisticRule(rule, birth, survival, states);
+    }
+
+    /**
+     * Return the next state of a cell.
+     *
+     * @param state the current state of the cell.
+     * @param aliveNeighbors the number of alive neighbors of the cell.
+     * @return the next state of the cell.
+     */
+    public int next(final int state, final int aliveNeighbors) {
+        return this.table[state * STRIDE + aliveNeighbors];
+    }
+
+    /**
+     * Return the number of states of the rule, that is 2 for the Life-like rules.
+     *
+     * @return the number of states.
+     */
+    public int getStates() {
+        return this.states;
+    }
+
+    /**
+     * Return the rule as it was parsed.
+     */
+    @Override
+    public String toString() {
+        return this.notation;
+    }
+
+    private static void parseCounts(final String counts, final boolean[] target, final String rule) {
+        for (final char c : counts.toCharArray()) {
+            final int count = Character.digit(c, 10);
+            if (count < 0 || count > MAX_NEIGHBORS) {
+                throw new IllegalArgumentException(INVALID_RULE + rule);
+            }
+            target[count] = true;
+        }
+    }
+
+    private static int parseStates(final String states, final String rule) {
+        try {
+            final int value = Integer.parseInt(states);
+            if (value >= 2) {
+                return value;
+            }
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_RULE + rule, e);
+        }
+        throw new IllegalArgumentException(INVALID_RULE + rule);
+    }
+}
@@ -0,0 +1,143 @@
+package casim.model.abstraction.utils;
+
+import java.util.Arrays;
+
+import casim.utils.grid.CellConsumer;
+
+/**
+ * Tracker of the regions of a grid that are still changing, for the synchronous automata whose cells
+ * only depend on their moore neighborhood in the previous generation.
+ * The grid is split into square tiles: a tile is active if one of its cells, or one of their neighbors,
+ * changed during the previous step. The cells of the other tiles are certainly unchanged, so
+ * they can be skipped, and a grid that has mostly settled costs in proportion to its activity.
+ * At the beginning every tile is active.
+ * <p>
+ * The cells of a skipped tile are not written, so when the generations are computed in a
+ * {@link casim.utils.grid.DoubleBuffer} the grid being written must hold the generation before the current one:
+ * a skipped cell did not change in the last step, so that generation is also the next one.
+ * </p>
+ * Different threads can mark the changed cells at the same time, as long as
+ * {@link #advance()} is called after all of them have finished.
+ */
+public final class ActiveTiles {
+
+    /**
+     * Default number of rows and columns of a tile.
+     */
+    public static final int DEFAULT_TILE_SIZE = 32;
+
+    private final int rows;
+    private final int columns;
+    private final int tileSize;
+    private final int tileRows;
+    private final int tileColumns;
+    private final boolean wrapping;
+    private boolean[] active;
+    private boolean[] changed;
+
+    /**
+     * Construct a new {@link ActiveTiles} where every tile is active.
+     *
+     * @param rows the number of rows of the grid.
+     * @param columns the number of columns of the grid.
+     * @param tileSize the number of rows and columns of a tile.
+     * @param wrapping true if the neighborhood of the cells wraps around the borders of the grid.
+     * @throws IllegalArgumentException if the tile size is not positive.
+     */
+    public ActiveTiles(final int rows, final int columns, final int tileSize, final boolean wrapping) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("The tile size must be positive: " + tileSize);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.tileSize = tileSize;
+        this.tileRows = (rows + tileSize - 1) / tileSize;
+        this.tileColumns = (columns + tileSize - 1) / tileSize;
+        this.wrapping = wrapping;
+        this.active = new boolean[this.tileRows * this.tileColumns];
+        this.changed = new boolean[this.active.length];
+        Arrays.fill(this.active, true);
+    }
+
+    /**
+     * Return the number of rows of tiles.
+     *
+     * @return the number of rows of tiles.
+     */
+    public int getTileRows() {
+        return this.tileRows;
+    }
+
+    /**
+     * Return the number of the active tiles.
+     *
+     * @return the number of the active tiles.
+     */
+    public int getActiveCount() {
+        int count = 0;
+        for (final boolean tile : this.active) {
+            if (tile) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Perform an action on every cell of the active tiles in a band of rows of tiles.
+     * The tiles are visited in row-major order and so are their cells.
+     *
+     * @param startTileRow the first row of tiles, inclusive.
+     * @param endTileRow the last row of tiles, exclusive.
+     * @param action the action performed on the cells.
+     */
+    public void forEachActiveCell(final int startTileRow, final int endTileRow, final CellConsumer action) {
+        for (int tileRow = startTileRow; tileRow < endTileRow; tileRow++) {
+            final int rowEnd = Math.min(this.rows, (tileRow + 1) * this.tileSize);
+            for (int tileColumn = 0; tileColumn < this.tileColumns; tileColumn++) {
+                if (this.active[tileRow * this.tileColumns + tileColumn]) {
+                    final int columnEnd = Math.min(this.columns, (tileColumn + 1) * this.tileSize);
+                    for (int row = tileRow * this.tileSize; row < rowEnd; row++) {
+                        for (int column = tileColumn * this.tileSize; column < columnEnd; column++) {
+                            action.accept(row, column);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Mark a cell as changed in the current step, so that the tiles containing it or its neighbors
+     * will be active in the next one.
+     *
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     */
+    public void markChanged(final int row, final int column) {
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                int neighborRow = row + dr;
+                int neighborColumn = column + dc;
+                if (this.wrapping) {
+                    neighborRow = Math.floorMod(neighborRow, this.rows);
+                    neighborColumn = Math.floorMod(neighborColumn, this.columns);
+                } else if (neighborRow < 0 || neighborRow >= this.rows
+                        || neighborColumn < 0 || neighborColumn >= this.columns) {
+                    continue;
+                }
+                this.changed[neighborRow / this.tileSize * this.tileColumns + neighborColumn / this.tileSize] = true;
+            }
+        }
+    }
+
+    /**
+     * Complete the current step: the tiles marked by {@link #markChanged(int, int)} become the active ones.
+     */
+    public void advance() {
+        final boolean[] previous = this.active;
+        this.active = this.changed;
+        this.changed = previous;
+        Arrays.fill(this.changed, false);
+    }
+}
@@ -0,0 +1,17 @@
+package casim.model.abstraction.utils;
+
+/**
+ * The shapes of the neighborhoods of range r around a 2D cell.
+ */
+public enum NeighborhoodShape {
+
+    /**
+     * The cells whose row and column differ by at most r from the ones of the center.
+     */
+    MOORE,
+
+    /**
+     * The cells whose Manhattan distance from the center is at most r.
+     */
+    VON_NEUMANN
+}
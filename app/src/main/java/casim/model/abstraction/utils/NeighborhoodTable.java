@@ -0,0 +1,312 @@
+package casim.model.abstraction.utils;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import casim.model.abstraction.rule.NeighborCursor;
+import casim.utils.grid.IndexedGrid;
+import casim.utils.grid.IndexedGrid2D;
+import casim.utils.grid.IndexedGrid3D;
+
+/**
+ * Neighborhood precomputed for a grid shape and boundary mode, that stores the linear indices of the
+ * neighbors of the cells in int arrays.
+ * The indices are the ones of {@link IndexedGrid2D#indexOf(int, int)} and {@link IndexedGrid3D#indexOf(int, int, int)},
+ * and the neighbors of each cell are listed in the same order of the corresponding {@link NeighborsFunctions}.
+ * All the interior cells share a single table of index offsets, so only the border cells have their own list:
+ * in a wrapping table they have the neighbors taken from the opposite side of the grid,
+ * while in a clipped one they just have fewer neighbors.
+ */
+public final class NeighborhoodTable {
+
+    private final int size;
+    private final int[] dimensions;
+    private final int[] offsets;
+    private final int[] borderCells;
+    private final int[] starts;
+    private final int[] neighbors;
+
+    /**
+     * Build the table of a grid whose dimensions are listed from the one whose coordinate varies fastest
+     * in the linear index, with the neighborhood given by the shifts of every neighbor along each dimension.
+     */
+    private NeighborhoodTable(final int[] dimensions, final int[][] shifts, final boolean wrapping) {
+        int cells = 1;
+        int interior = 1;
+        for (final int dimension : dimensions) {
+            if (dimension < 0) {
+                throw new IllegalArgumentException("Invalid dimension: " + dimension);
+            }
+            try {
+                cells = Math.multiplyExact(cells, dimension);
+            } catch (final ArithmeticException e) {
+                throw new IllegalArgumentException("Too many cells: " + Arrays.toString(dimensions), e);
+            }
+            interior *= Math.max(dimension - 2, 0);
+        }
+        this.size = cells;
+        this.dimensions = dimensions.clone();
+        this.offsets = new int[shifts[0].length];
+        int stride = 1;
+        for (int d = 0; d < dimensions.length; d++) {
+            for (int k = 0; k < this.offsets.length; k++) {
+                this.offsets[k] += shifts[d][k] * stride;
+            }
+            stride *= dimensions[d];
+        }
+        this.borderCells = new int[cells - interior];
+        this.starts = new int[this.borderCells.length + 1];
+        final int[] coordinates = new int[dimensions.length];
+        long count = 0;
+        int border = 0;
+        for (int index = 0; index < cells; index++) {
+            this.decode(index, coordinates);
+            if (this.isBorder(coordinates)) {
+                this.borderCells[border] = index;
+                this.starts[border] = (int) count;
+                count += this.collect(coordinates, shifts, wrapping, null, 0);
+                border++;
+                if (count > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Too many cells: " + Arrays.toString(dimensions));
+                }
+            }
+        }
+        this.starts[border] = (int) count;
+        this.neighbors = new int[(int) count];
+        for (int slot = 0; slot < this.borderCells.length; slot++) {
+            this.decode(this.borderCells[slot], coordinates);
+            this.collect(coordinates, shifts, wrapping, this.neighbors, this.starts[slot]);
+        }
+    }
+
+    /**
+     * Build the moore neighborhood of a rows x columns grid.
+     *
+     * @param rows the number of rows of the grid.
+     * @param columns the number of columns of the grid.
+     * @param wrapping true if the grid wraps at the borders.
+     * @return the {@link NeighborhoodTable} of the grid.
+     * @throws IllegalArgumentException if the grid has more cells than an int can index.
+     */
+    public static NeighborhoodTable moore(final int rows, final int columns, final boolean wrapping) {
+        return new NeighborhoodTable(new int[] {columns, rows},
+            new int[][] {NeighborsFunctions.MOORE_COLUMNS, NeighborsFunctions.MOORE_ROWS}, wrapping);
+    }
+
+    /**
+     * Build the Von Neumann's neighborhood of a rows x columns grid.
+     *
+     * @param rows the number of rows of the grid.
+     * @param columns the number of columns of the grid.
+     * @param wrapping true if the grid wraps at the borders.
+     * @return the {@link NeighborhoodTable} of the grid.
+     * @throws IllegalArgumentException if the grid has more cells than an int can index.
+     */
+    public static NeighborhoodTable vonNeumann(final int rows, final int columns, final boolean wrapping) {
+        return new NeighborhoodTable(new int[] {columns, rows},
+            new int[][] {NeighborsFunctions.VON_NEUMANN_2D_COLUMNS, NeighborsFunctions.VON_NEUMANN_2D_ROWS}, wrapping);
+    }
+
+    /**
+     * Build the Von Neumann's neighborhood of a rows x columns x depth grid.
+     *
+     * @param rows the number of rows of the grid.
+     * @param columns the number of columns of the grid.
+     * @param depth the depth of the grid.
+     * @param wrapping true if the grid wraps at the borders.
+     * @return the {@link NeighborhoodTable} of the grid.
+     * @throws IllegalArgumentException if the grid has more cells than an int can index.
+     */
+    public static NeighborhoodTable vonNeumann(final int rows, final int columns, final int depth,
+            final boolean wrapping) {
+        return new NeighborhoodTable(new int[] {rows, columns, depth}, new int[][] {NeighborsFunctions.VON_NEUMANN_3D_ROWS,
+            NeighborsFunctions.VON_NEUMANN_3D_COLUMNS, NeighborsFunctions.VON_NEUMANN_3D_DEPTHS}, wrapping);
+    }
+
+    /**
+     * Return the number of cells of the grid.
+     *
+     * @return the number of cells.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Return the number of neighbors of a cell.
+     *
+     * @param index the index of the cell.
+     * @return the number of neighbors of the cell.
+     */
+    public int getNeighborCount(final int index) {
+        final int slot = this.borderSlot(index);
+        return slot < 0 ? this.offsets.length : this.starts[slot + 1] - this.starts[slot];
+    }
+
+    /**
+     * Return the index of one of the neighbors of a cell.
+     *
+     * @param index the index of the cell.
+     * @param neighbor the position of the neighbor, between 0 and {@link #getNeighborCount(int)}.
+     * @return the index of the neighbor.
+     */
+    public int getNeighbor(final int index, final int neighbor) {
+        final int slot = this.borderSlot(index);
+        return slot < 0 ? index + this.offsets[neighbor] : this.neighbors[this.starts[slot] + neighbor];
+    }
+
+    /**
+     * Count the neighbors of a cell that satisfy a predicate.
+     * The grid must have the shape the {@link NeighborhoodTable} was built for.
+     *
+     * @param <T> the type of the cells.
+     * @param grid the {@link IndexedGrid} holding the cells.
+     * @param index the index of the cell.
+     * @param predicate the condition that the counted neighbors have to satisfy.
+     * @return the number of the neighbors that satisfy the predicate.
+     */
+    public <T> int count(final IndexedGrid<?, T> grid, final int index, final Predicate<? super T> predicate) {
+        final int slot = this.borderSlot(index);
+        int count = 0;
+        if (slot < 0) {
+            for (final int offset : this.offsets) {
+                if (predicate.test(grid.getUnchecked(index + offset))) {
+                    count++;
+                }
+            }
+        } else {
+            for (int i = this.starts[slot]; i < this.starts[slot + 1]; i++) {
+                if (predicate.test(grid.getUnchecked(this.neighbors[i]))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Return a new {@link Cursor} over the neighbors of the cells of a grid.
+     * The grid must have the shape the {@link NeighborhoodTable} was built for.
+     *
+     * @param <T> the type of the cells.
+     * @param grid the {@link IndexedGrid} holding the cells.
+     * @return a {@link Cursor} that has to be moved on a cell with {@link Cursor#moveTo(int)}.
+     */
+    public <T> Cursor<T> cursor(final IndexedGrid<?, T> grid) {
+        return new Cursor<>(grid);
+    }
+
+    /**
+     * Return the position of a border cell in the list of the border cells, or -1 for an interior cell.
+     */
+    private int borderSlot(final int index) {
+        int rest = index;
+        for (final int dimension : this.dimensions) {
+            final int coordinate = rest % dimension;
+            if (coordinate == 0 || coordinate == dimension - 1) {
+                return Arrays.binarySearch(this.borderCells, index);
+            }
+            rest /= dimension;
+        }
+        return -1;
+    }
+
+    private void decode(final int index, final int[] coordinates) {
+        int rest = index;
+        for (int d = 0; d < this.dimensions.length; d++) {
+            coordinates[d] = rest % this.dimensions[d];
+            rest /= this.dimensions[d];
+        }
+    }
+
+    private boolean isBorder(final int[] coordinates) {
+        for (int d = 0; d < this.dimensions.length; d++) {
+            if (coordinates[d] == 0 || coordinates[d] == this.dimensions[d] - 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write the indices of the neighbors of a border cell from the given position, if the target is not null,
+     * and return their number.
+     */
+    private int collect(final int[] coordinates, final int[][] shifts, final boolean wrapping,
+            final int[] target, final int from) {
+        int count = 0;
+        for (int k = 0; k < this.offsets.length; k++) {
+            int index = 0;
+            int stride = 1;
+            boolean inside = true;
+            for (int d = 0; d < this.dimensions.length && inside; d++) {
+                int coordinate = coordinates[d] + shifts[d][k];
+                if (wrapping) {
+                    coordinate = Math.floorMod(coordinate, this.dimensions[d]);
+                } else {
+                    inside = coordinate >= 0 && coordinate < this.dimensions[d];
+                }
+                index += coordinate * stride;
+                stride *= this.dimensions[d];
+            }
+            if (inside) {
+                if (target != null) {
+                    target[from + count] = index;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@link NeighborCursor} that reads the neighbors of a cell from the {@link NeighborhoodTable},
+     * and can be moved from cell to cell without allocating.
+     *
+     * @param <T> the type of the cells.
+     */
+    public final class Cursor<T> implements NeighborCursor<T> {
+
+        private final IndexedGrid<?, T> grid;
+        private int[] table;
+        private int base;
+        private int start;
+        private int end;
+
+        private Cursor(final IndexedGrid<?, T> grid) {
+            this.grid = grid;
+        }
+
+        /**
+         * Move the cursor on the neighbors of another cell.
+         *
+         * @param index the index of the cell.
+         * @return this cursor.
+         */
+        public Cursor<T> moveTo(final int index) {
+            final int slot = NeighborhoodTable.this.borderSlot(index);
+            if (slot < 0) {
+                this.table = NeighborhoodTable.this.offsets;
+                this.base = index;
+                this.start = 0;
+                this.end = this.table.length;
+            } else {
+                this.table = NeighborhoodTable.this.neighbors;
+                this.base = 0;
+                this.start = NeighborhoodTable.this.starts[slot];
+                this.end = NeighborhoodTable.this.starts[slot + 1];
+            }
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public T get(final int neighbor) {
+            return this.grid.getUnchecked(this.base + this.table[this.start + neighbor]);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package casim.model.abstraction.utils;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import casim.utils.coordinate.Coordinates;
+import casim.utils.grid.Grid;
+
+/**
+ * Neighbors function that returns only how many neighbors of a cell are counted by the rule,
+ * for the totalistic rules that do not need the neighbors themselves.
+ *
+ * @param <C> the {@link Coordinates} implementation used by the cell (it can be 2D or 3D).
+ * @param <T> the type of the cells.
+ */
+@FunctionalInterface
+public interface NeighborsCountFunction<C extends Coordinates<? extends Number>, T> {
+
+    /**
+     * Count the neighbors of a cell.
+     *
+     * @param cellPair a pair {@link Coordinates} + cell of the cell of which count the neighbors.
+     * @param grid the {@link Grid} where the cells are contained.
+     * @return the number of neighbors.
+     */
+    int count(Pair<C, T> cellPair, Grid<C, T> grid);
+}
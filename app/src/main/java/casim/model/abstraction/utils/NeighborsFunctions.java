@@ -1,6 +1,8 @@
 package casim.model.abstraction.utils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -11,12 +13,26 @@ import casim.utils.coordinate.Coordinates2D;
 import casim.utils.coordinate.Coordinates3D;
 import casim.utils.coordinate.CoordinatesUtil;
 import casim.utils.grid.Grid;
+import casim.utils.grid.GridUtils;
+import casim.utils.grid.IndexedGrid2D;
 
 /**
  * Static class for the standard neighbors functions. 
  */
 public final class NeighborsFunctions {
 
+    /*
+     * Offsets of the neighborhoods, in the same order used by the functions that return the neighbors.
+     * They are shared with NeighborhoodTable and must not be modified.
+     */
+    static final int[] VON_NEUMANN_2D_ROWS = {1, 0, 0, -1};
+    static final int[] VON_NEUMANN_2D_COLUMNS = {0, 1, -1, 0};
+    static final int[] MOORE_ROWS = {1, 0, 0, -1, 1, -1, 1, -1};
+    static final int[] MOORE_COLUMNS = {0, 1, -1, 0, 1, 1, -1, -1};
+    static final int[] VON_NEUMANN_3D_ROWS = {1, -1, 0, 0, 0, 0};
+    static final int[] VON_NEUMANN_3D_COLUMNS = {0, 0, 1, -1, 0, 0};
+    static final int[] VON_NEUMANN_3D_DEPTHS = {0, 0, 0, 0, 1, -1};
+
     private NeighborsFunctions() {
     }
 
@@ -55,6 +71,39 @@ public final class NeighborsFunctions {
             .collect(Collectors.toList());
    }
 
+    /**
+     * Method to obtain all the neighbors of a 2D interior cell, that is a cell whose neighbors are
+     * all inside the grid, so that they are not checked. The cells on the border of a clipped grid
+     * must use {@link #neighbors2DFunction(Pair, Grid)} instead.
+     * 
+     * @param cellPair a pair {@link Coordinates2D}+{@link AbstractCell} implementation 
+     *      of the cell of which calculate the neighbors.
+     * @param grid the 2D {@link Grid} where search for the neighbors.
+     * @return a list containing all the neighbors of the cell.
+     * @param <T> the {@link AbstractCell} implementation of the cells.
+     * @see GridUtils#forEachCell(int, int, int, casim.utils.grid.CellConsumer, casim.utils.grid.CellConsumer)
+     */
+    public static <T extends AbstractCell<?>> List<Pair<Coordinates2D<Integer>, T>> interiorNeighbors2DFunction(
+            final Pair<Coordinates2D<Integer>, T> cellPair, final Grid<Coordinates2D<Integer>, T> grid) {
+        return interior2D(cellPair.getLeft(), grid, VON_NEUMANN_2D_ROWS, VON_NEUMANN_2D_COLUMNS);
+    }
+
+    /**
+     * Method to obtain all the moore neighbors of a 2D interior cell, that is a cell whose neighbors are
+     * all inside the grid, so that they are not checked. The cells on the border of a clipped grid
+     * must use {@link #mooreNeighborsFunction(Pair, Grid)} instead.
+     * 
+     * @param cellPair a pair {@link Coordinates2D}+{@link AbstractCell} implementation 
+     *      of the cell of which calculate the neighbors.
+     * @param grid the 2D {@link Grid} where search for the neighbors.
+     * @return a list containing all the neighbors of the cell.
+     * @param <T> the {@link AbstractCell} implementation of the cells.
+     */
+    public static <T extends AbstractCell<?>> List<Pair<Coordinates2D<Integer>, T>> interiorMooreNeighborsFunction(
+            final Pair<Coordinates2D<Integer>, T> cellPair, final Grid<Coordinates2D<Integer>, T> grid) {
+        return interior2D(cellPair.getLeft(), grid, MOORE_ROWS, MOORE_COLUMNS);
+    }
+
     /**
      * Method to obtain all the neighbors of a 3D cell.
      * 
@@ -71,4 +120,69 @@ public final class NeighborsFunctions {
             .map(coord -> Pair.of(coord, grid.get(coord)))
             .collect(Collectors.toList());
     }
+
+    /**
+     * Count the moore neighbors of a 2D interior cell that satisfy a predicate, reading them by index
+     * without any bound check. The cell must be at least one cell away from every border of the grid.
+     * 
+     * @param grid the {@link IndexedGrid2D} where search for the neighbors.
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @param predicate the condition that the counted neighbors have to satisfy.
+     * @return the number of the neighbors that satisfy the predicate.
+     * @param <T> the type of the cells.
+     */
+    public static <T> int countInteriorMooreNeighbors(final IndexedGrid2D<T> grid, final int row, final int column,
+            final Predicate<? super T> predicate) {
+        return countInterior2D(grid, row, column, predicate, MOORE_ROWS, MOORE_COLUMNS);
+    }
+
+    /**
+     * Count the Von Neumann's neighbors of a 2D interior cell that satisfy a predicate, reading them by index
+     * without any bound check. The cell must be at least one cell away from every border of the grid.
+     * 
+     * @param grid the {@link IndexedGrid2D} where search for the neighbors.
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @param predicate the condition that the counted neighbors have to satisfy.
+     * @return the number of the neighbors that satisfy the predicate.
+     * @param <T> the type of the cells.
+     */
+    public static <T> int countInteriorNeighbors2D(final IndexedGrid2D<T> grid, final int row, final int column,
+            final Predicate<? super T> predicate) {
+        return countInterior2D(grid, row, column, predicate, VON_NEUMANN_2D_ROWS, VON_NEUMANN_2D_COLUMNS);
+    }
+
+    private static <T> int countInterior2D(final IndexedGrid2D<T> grid, final int row, final int column,
+            final Predicate<? super T> predicate, final int[] rows, final int[] columns) {
+        final int width = grid.getWidth();
+        final int index = grid.indexOf(row, column);
+        int count = 0;
+        for (int i = 0; i < rows.length; i++) {
+            if (predicate.test(grid.getUnchecked(index + rows[i] * width + columns[i]))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static <T> List<Pair<Coordinates2D<Integer>, T>> interior2D(final Coordinates2D<Integer> coord,
+            final Grid<Coordinates2D<Integer>, T> grid, final int[] rows, final int[] columns) {
+        final List<Pair<Coordinates2D<Integer>, T>> neighbors = new ArrayList<>(rows.length);
+        if (grid instanceof IndexedGrid2D) {
+            final IndexedGrid2D<T> indexed = (IndexedGrid2D<T>) grid;
+            final int width = indexed.getWidth();
+            final int index = indexed.indexOf(coord.getX(), coord.getY());
+            for (int i = 0; i < rows.length; i++) {
+                neighbors.add(Pair.of(CoordinatesUtil.of(coord.getX() + rows[i], coord.getY() + columns[i]),
+                    indexed.getUnchecked(index + rows[i] * width + columns[i])));
+            }
+        } else {
+            for (int i = 0; i < rows.length; i++) {
+                final var neighbor = CoordinatesUtil.of(coord.getX() + rows[i], coord.getY() + columns[i]);
+                neighbors.add(Pair.of(neighbor, grid.get(neighbor)));
+            }
+        }
+        return neighbors;
+    }
 }
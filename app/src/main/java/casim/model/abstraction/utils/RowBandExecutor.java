@@ -0,0 +1,108 @@
+package casim.model.abstraction.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Executor that splits the rows of a grid into bands and computes them on a {@link ForkJoinPool}.
+ * It is meant for the synchronous automata, whose cells only depend on the previous generation:
+ * the bands write disjoint cells, so the result does not depend on how the rows are split
+ * nor on the order in which the bands are computed.
+ * With a parallelism of one the bands are computed on the calling thread, without any pool.
+ * The pools are shared by all the executors with the same parallelism, so creating an executor for every
+ * automaton does not leak threads: the workers of a pool are daemon threads that terminate when idle.
+ */
+public final class RowBandExecutor {
+
+    private static final int BANDS_PER_THREAD = 4;
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    /**
+     * Construct a new {@link RowBandExecutor}.
+     *
+     * @param parallelism the number of threads used to compute the bands.
+     * @throws IllegalArgumentException if the parallelism is not positive.
+     */
+    public RowBandExecutor(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.pool = parallelism == 1 ? null : POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
+    /**
+     * Compute every row of a grid, waiting for all the bands to be completed.
+     *
+     * @param rows the number of rows of the grid.
+     * @param band the computation of a band of rows.
+     */
+    public void forEachBand(final int rows, final Band band) {
+        if (this.pool == null) {
+            band.compute(0, rows);
+        } else {
+            final int bandRows = Math.max(1, rows / (this.parallelism * BANDS_PER_THREAD));
+            this.pool.invoke(new BandTask(0, rows, bandRows, band));
+        }
+    }
+
+    /**
+     * Return the number of threads used to compute the bands.
+     *
+     * @return the parallelism level.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Computation of a band of rows.
+     */
+    @FunctionalInterface
+    public interface Band {
+
+        /**
+         * Compute the rows of the band.
+         *
+         * @param startRow the first row of the band, inclusive.
+         * @param endRow the last row of the band, exclusive.
+         */
+        void compute(int startRow, int endRow);
+    }
+
+    /**
+     * Task that splits its rows in half until they fit in a band.
+     */
+    private static final class BandTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int startRow;
+        private final int endRow;
+        private final int bandRows;
+        private final transient Band band;
+
+        private BandTask(final int startRow, final int endRow, final int bandRows, final Band band) {
+            this.startRow = startRow;
+            this.endRow = endRow;
+            this.bandRows = bandRows;
+            this.band = band;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.endRow - this.startRow <= this.bandRows) {
+                this.band.compute(this.startRow, this.endRow);
+            } else {
+                final int middle = (this.startRow + this.endRow) >>> 1;
+                invokeAll(new BandTask(this.startRow, middle, this.bandRows, this.band),
+                    new BandTask(middle, this.endRow, this.bandRows, this.band));
+            }
+        }
+    }
+}
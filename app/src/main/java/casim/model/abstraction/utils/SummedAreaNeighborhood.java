@@ -0,0 +1,167 @@
+package casim.model.abstraction.utils;
+
+import java.util.function.Predicate;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.grid.Grid;
+import casim.utils.grid.Grid2D;
+
+/**
+ * {@link NeighborsCountFunction} for neighborhoods of any range, that counts the neighbors satisfying
+ * a predicate in constant time from a summed-area table.
+ * The table has to be rebuilt with {@link #update(Grid2D)} every time the grid changes, usually once
+ * per step, at a cost proportional to the size of the grid and independent of the range.
+ * The von Neumann's neighborhood is computed on a table of the grid rotated by 45 degrees,
+ * where the diamond around a cell becomes a square.
+ * The center cell is never counted, like in {@link NeighborsFunctions}.
+ *
+ * @param <T> the type of the cells.
+ */
+public final class SummedAreaNeighborhood<T> implements NeighborsCountFunction<Coordinates2D<Integer>, T> {
+
+    private final int rows;
+    private final int columns;
+    private final int range;
+    private final NeighborhoodShape shape;
+    private final boolean wrapping;
+    private final Predicate<? super T> predicate;
+    private final int paddedRows;
+    private final int paddedColumns;
+    private final int tableSide;
+    private final int tableColumns;
+    private final int[] values;
+    private final int[] table;
+
+    /**
+     * Construct a new {@link SummedAreaNeighborhood}, whose table must be built with {@link #update(Grid2D)}.
+     *
+     * @param rows the number of rows of the grid.
+     * @param columns the number of columns of the grid.
+     * @param range the range of the neighborhood, it must be positive.
+     * @param shape the {@link NeighborhoodShape} of the neighborhood.
+     * @param wrapping true if the grid wraps at the borders.
+     * @param predicate the condition that the counted neighbors have to satisfy.
+     */
+    public SummedAreaNeighborhood(final int rows, final int columns, final int range, final NeighborhoodShape shape,
+            final boolean wrapping, final Predicate<? super T> predicate) {
+        if (range <= 0) {
+            throw new IllegalArgumentException("The range must be positive.");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.range = range;
+        this.shape = shape;
+        this.wrapping = wrapping;
+        this.predicate = predicate;
+        this.paddedRows = rows + 2 * range;
+        this.paddedColumns = columns + 2 * range;
+        this.values = new int[rows * columns];
+        if (shape == NeighborhoodShape.MOORE) {
+            this.tableSide = this.paddedRows + 1;
+            this.tableColumns = this.paddedColumns + 1;
+        } else {
+            this.tableSide = this.paddedRows + this.paddedColumns;
+            this.tableColumns = this.tableSide;
+        }
+        this.table = new int[this.tableSide * this.tableColumns];
+    }
+
+    /**
+     * Rebuild the summed-area table from the current content of the grid.
+     *
+     * @param grid the grid, with the size given at construction.
+     */
+    public void update(final Grid2D<? extends T> grid) {
+        for (int row = 0; row < this.rows; row++) {
+            for (int column = 0; column < this.columns; column++) {
+                this.values[row * this.columns + column] = this.predicate.test(grid.get(row, column)) ? 1 : 0;
+            }
+        }
+        if (this.shape == NeighborhoodShape.MOORE) {
+            this.buildMooreTable();
+        } else {
+            this.buildRotatedTable();
+        }
+    }
+
+    /**
+     * Count the neighbors of a cell that satisfy the predicate, as of the last {@link #update(Grid2D)}.
+     *
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @return the number of neighbors that satisfy the predicate.
+     */
+    public int count(final int row, final int column) {
+        final int center = this.values[row * this.columns + column];
+        if (this.shape == NeighborhoodShape.MOORE) {
+            return this.rectangle(row, column, row + 2 * this.range + 1, column + 2 * this.range + 1) - center;
+        }
+        final int u = row + column + this.range;
+        final int v = row - column + this.paddedColumns - 1 - this.range;
+        return this.rectangle(u, v, u + 2 * this.range + 1, v + 2 * this.range + 1) - center;
+    }
+
+    /**
+     * Count the neighbors of a cell that satisfy the predicate, as of the last {@link #update(Grid2D)}.
+     * The grid is not read, so {@link #update(Grid2D)} must have been called on its current content.
+     */
+    @Override
+    public int count(final Pair<Coordinates2D<Integer>, T> cellPair, final Grid<Coordinates2D<Integer>, T> grid) {
+        return this.count(cellPair.getLeft().getX(), cellPair.getLeft().getY());
+    }
+
+    private int valueAt(final int paddedRow, final int paddedColumn) {
+        int row = paddedRow - this.range;
+        int column = paddedColumn - this.range;
+        if (this.wrapping) {
+            row = Math.floorMod(row, this.rows);
+            column = Math.floorMod(column, this.columns);
+        } else if (row < 0 || column < 0 || row >= this.rows || column >= this.columns) {
+            return 0;
+        }
+        return this.values[row * this.columns + column];
+    }
+
+    /*
+     * table[(i + 1) * tableColumns + (j + 1)] holds the sum of the padded cells up to row i and column j.
+     */
+    private void buildMooreTable() {
+        for (int i = 0; i < this.paddedRows; i++) {
+            int rowSum = 0;
+            for (int j = 0; j < this.paddedColumns; j++) {
+                rowSum += this.valueAt(i, j);
+                this.table[(i + 1) * this.tableColumns + j + 1] = this.table[i * this.tableColumns + j + 1] + rowSum;
+            }
+        }
+    }
+
+    /*
+     * The padded cell (i, j) is stored at u = i + j, v = i - j + paddedColumns - 1, the other positions are empty.
+     */
+    private void buildRotatedTable() {
+        final int side = this.tableSide - 1;
+        for (int u = 0; u < side; u++) {
+            int rowSum = 0;
+            for (int v = 0; v < side; v++) {
+                if ((u + v - this.paddedColumns + 1) % 2 == 0) {
+                    final int i = (u + v - this.paddedColumns + 1) / 2;
+                    final int j = u - i;
+                    if (i >= 0 && j >= 0 && i < this.paddedRows && j < this.paddedColumns) {
+                        rowSum += this.valueAt(i, j);
+                    }
+                }
+                this.table[(u + 1) * this.tableColumns + v + 1] = this.table[u * this.tableColumns + v + 1] + rowSum;
+            }
+        }
+    }
+
+    /*
+     * Sum of the table cells with first index in [top, bottom) and second index in [left, right).
+     */
+    private int rectangle(final int top, final int left, final int bottom, final int right) {
+        return this.table[bottom * this.tableColumns + right] - this.table[top * this.tableColumns + right]
+            - this.table[bottom * this.tableColumns + left] + this.table[top * this.tableColumns + left];
+    }
+}
@@ -1,23 +1,25 @@
 package casim.model.bryansbrain;
 
-import org.apache.commons.lang3.tuple.Pair;
-
-import casim.model.abstraction.automaton.AbstractAutomaton;
-import casim.model.abstraction.utils.NeighborsFunctions;
+import casim.model.abstraction.automaton.AbstractBufferedAutomaton;
+import casim.model.abstraction.utils.ActiveTiles;
+import casim.model.abstraction.utils.NeighborhoodTable;
+import casim.model.abstraction.utils.RowBandExecutor;
+import casim.utils.grid.DoubleBuffer;
 import casim.utils.grid.Grid2D;
-import casim.utils.grid.Grid2DImpl;
-import casim.utils.grid.GridUtils;
-import casim.utils.grid.WrappingGrid;
+import casim.utils.grid.Grids;
+import casim.utils.grid.IndexedGrid2D;
 
 /**
  * Bryan's Brain automaton.
+ * Only the tiles of the grid that changed in the previous step, tracked by {@link ActiveTiles}, are computed.
  */
-public class BryansBrain extends AbstractAutomaton<BryansBrainCellState, BryansBrainCell> {
-    private final boolean wrapping;
+public class BryansBrain extends AbstractBufferedAutomaton<BryansBrainCellState, BryansBrainCell,
+        IndexedGrid2D<BryansBrainCell>> {
 
-    private Grid2D<BryansBrainCell> state;
-    private final BryansBrainUpdateRule updateRule
-        = new BryansBrainUpdateRule(NeighborsFunctions::mooreNeighborsFunction);
+    private final BryansBrainUpdateRule updateRule = new BryansBrainUpdateRule();
+    private final NeighborhoodTable neighborhood;
+    private final RowBandExecutor executor;
+    private final ActiveTiles activeTiles;
 
     /**
      * Build a new {@link BryansBrain}.
@@ -26,39 +28,50 @@ public class BryansBrain extends AbstractAutomaton<BryansBrainCellState, BryansB
      * @param wrapping true if the automaton has to wrap the grid.
      */
     public BryansBrain(final Grid2D<BryansBrainCellState> state, final boolean wrapping) {
-        this.wrapping = wrapping;
-        this.state = this.wrapping 
-            ? new WrappingGrid<>(state.map(s -> new BryansBrainCell(s)))
-            : state.map(s -> new BryansBrainCell(s));
+        this(state, wrapping, 1);
     }
 
-    @Override
-    public boolean hasNext() {
-        return true;
+    /**
+     * Build a new {@link BryansBrain} that computes each step on several threads.
+     * The generations are the same computed by a single thread.
+     * 
+     * @param state the initial state of the grid.
+     * @param wrapping true if the automaton has to wrap the grid.
+     * @param parallelism the number of threads used to compute each step.
+     */
+    public BryansBrain(final Grid2D<BryansBrainCellState> state, final boolean wrapping, final int parallelism) {
+        super(createBuffer(state));
+        this.neighborhood = NeighborhoodTable.moore(state.getHeight(), state.getWidth(), wrapping);
+        this.executor = new RowBandExecutor(parallelism);
+        this.activeTiles = new ActiveTiles(state.getHeight(), state.getWidth(), ActiveTiles.DEFAULT_TILE_SIZE, wrapping);
     }
 
     @Override
-    protected Grid2D<BryansBrainCell> doStep() {
-        final var newState = this.getNextStateGrid();
-        GridUtils.get2dCoordStream(this.state.getHeight(), this.state.getWidth())
-            .forEach(coord -> newState.set(
-                coord, 
-                this.updateRule.getNextCell(Pair.of(coord, this.state.get(coord)), 
-                this.state)));
-        this.state = newState;
-        return this.state;
+    public boolean hasNext() {
+        return true;
     }
 
     @Override
-    public Grid2D<BryansBrainCell> getGrid() {
-        return this.state;
+    protected void computeNextGeneration(final IndexedGrid2D<BryansBrainCell> current,
+            final IndexedGrid2D<BryansBrainCell> next) {
+        this.executor.forEachBand(this.activeTiles.getTileRows(), (startTileRow, endTileRow) -> {
+            final var neighbors = this.neighborhood.cursor(current);
+            this.activeTiles.forEachActiveCell(startTileRow, endTileRow, (row, column) -> {
+                final int i = current.indexOf(row, column);
+                final var cell = current.getUnchecked(i);
+                final var nextCell = this.updateRule.getNextCell(cell, neighbors.moveTo(i));
+                if (nextCell.getState() != cell.getState()) {
+                    this.activeTiles.markChanged(row, column);
+                }
+                next.setUnchecked(i, nextCell);
+            });
+        });
+        this.activeTiles.advance();
     }
 
-    private Grid2D<BryansBrainCell> getNextStateGrid() {
-        Grid2D<BryansBrainCell> newState = new Grid2DImpl<>(this.state.getHeight(), this.state.getWidth());
-        if (this.wrapping) {
-            newState = new WrappingGrid<>(newState);
-        }
-        return newState;
+    private static DoubleBuffer<IndexedGrid2D<BryansBrainCell>> createBuffer(final Grid2D<BryansBrainCellState> state) {
+        return new DoubleBuffer<>(
+            Grids.of(state.getHeight(), state.getWidth(), coord -> new BryansBrainCell(state.get(coord))),
+            Grids.of(state.getHeight(), state.getWidth()));
     }
 }
@@ -1,47 +1,56 @@
 package casim.model.bryansbrain;
 
 import java.util.List;
-import java.util.function.BiFunction;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import casim.model.abstraction.rule.AbstractUpdateRule;
+import casim.model.abstraction.rule.CursorUpdateRule;
+import casim.model.abstraction.rule.EnumTotalisticRule;
+import casim.model.abstraction.rule.NeighborCursor;
+import casim.model.abstraction.utils.NeighborsFunctions;
 import casim.utils.coordinate.Coordinates2D;
-import casim.utils.grid.Grid;
 
 /**
  * Bryan's Brain's {@link BryansBrainUpdateRule} implementation.
  */
 //package-private
-class BryansBrainUpdateRule extends AbstractUpdateRule<Coordinates2D<Integer>, BryansBrainCell> {
+class BryansBrainUpdateRule extends AbstractUpdateRule<Coordinates2D<Integer>, BryansBrainCell>
+        implements CursorUpdateRule<BryansBrainCell> {
 
-    private static final String UNKNOWN_STATE = "Unknown state.";
-    private static final int ALIVE_NEIGHBOUR_BIRTH_VALUE = 2;
+    private static final EnumTotalisticRule<BryansBrainCellState> RULE = new EnumTotalisticRule<>("/2/3",
+        List.of(BryansBrainCellState.DEAD, BryansBrainCellState.ALIVE, BryansBrainCellState.DYING));
 
     //package-private
-    BryansBrainUpdateRule(
-        final BiFunction<
-            Pair<Coordinates2D<Integer>, BryansBrainCell>, 
-            Grid<Coordinates2D<Integer>, BryansBrainCell>, 
-            List<Pair<Coordinates2D<Integer>, BryansBrainCell>>> neighborsFunction) {
-        super(neighborsFunction);
+    BryansBrainUpdateRule() {
+        super(NeighborsFunctions::mooreNeighborsFunction);
+    }
+
+    @Override
+    public BryansBrainCell getNextCell(final BryansBrainCell cell, final NeighborCursor<BryansBrainCell> neighbors) {
+        return this.nextCell(cell, cell.getState() == BryansBrainCellState.DEAD
+            ? neighbors.count(neighbor -> neighbor.getState() == BryansBrainCellState.ALIVE)
+            : 0);
     }
 
     @Override
     protected BryansBrainCell nextCell(final Pair<Coordinates2D<Integer>, BryansBrainCell> cellPair,
             final List<Pair<Coordinates2D<Integer>, BryansBrainCell>> neighborsPairs) {
-        switch (cellPair.getRight().getState()) {
-            case ALIVE:
-                return new BryansBrainCell(BryansBrainCellState.DYING);
-            case DYING:
-                return new BryansBrainCell(BryansBrainCellState.DEAD);
-            case DEAD:
-                final int aliveCells = countAliveNeighbors(neighborsPairs);
-                return new BryansBrainCell(
-                    aliveCells == ALIVE_NEIGHBOUR_BIRTH_VALUE ? BryansBrainCellState.ALIVE : BryansBrainCellState.DEAD);
-            default:
-                throw new IllegalStateException(UNKNOWN_STATE);
-        }
+        return this.nextCell(cellPair.getRight(), cellPair.getRight().getState() == BryansBrainCellState.DEAD
+            ? countAliveNeighbors(neighborsPairs) : 0);
+    }
+
+    /**
+     * Calculate the next state of a cell, given the number of its alive neighbors, following the
+     * Generations rule /2/3.
+     * The number of neighbors is only used by the dead cells.
+     * 
+     * @param cell the {@link BryansBrainCell} to update.
+     * @param aliveCells the number of alive neighbors of the cell.
+     * @return the updated cell.
+     */
+    private BryansBrainCell nextCell(final BryansBrainCell cell, final int aliveCells) {
+        return new BryansBrainCell(RULE.next(cell.getState(), aliveCells));
     }
 
     private int countAliveNeighbors(final Iterable<Pair<Coordinates2D<Integer>, BryansBrainCell>> neighborsPairs) {
@@ -1,9 +1,8 @@
 package casim.model.codi;
 
-import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -21,12 +20,12 @@ import casim.model.codi.utils.CoDiDirection;
 import casim.model.codi.utils.stats.CoDiStatsImpl;
 import casim.utils.coordinate.Coordinates3D;
 import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.coordinate.PackedCoordinates3D;
+import casim.utils.grid.DoubleBuffer;
 import casim.utils.grid.Grid2D;
-import casim.utils.grid.Grid2DImpl;
 import casim.utils.grid.Grid3D;
-import casim.utils.grid.Grid3DImpl;
 import casim.utils.grid.GridUtils;
-import casim.utils.range.Ranges;
+import casim.utils.grid.Grids;
 
 /**
  * Implementation of CoDi Automaton.
@@ -40,6 +39,7 @@ public class CoDi extends AbstractAutomaton<CoDiCellState, CoDiCell> {
     private int outputLayer;
     private boolean changed; 
     private Grid3D<CoDiCell> state;
+    private final DoubleBuffer<Grid3D<CoDiCell>> buffer;
     private boolean hasSetupSignaling;
     private final Random rng = new Random();
     private final GrowthUpdateRule growthUpdateRule;
@@ -56,7 +56,9 @@ public class CoDi extends AbstractAutomaton<CoDiCellState, CoDiCell> {
         this.outputLayer = 0;
         this.hasSetupSignaling = false;
         final Function<CoDiCellState, CoDiCell> cellFunction = new StateToCellFunction();
-        this.state = state.map(s -> cellFunction.apply(s));
+        this.buffer = new DoubleBuffer<>(state.map(s -> cellFunction.apply(s)),
+            Grids.of(state.getHeight(), state.getWidth(), state.getDepth()));
+        this.state = this.buffer.getFront();
         this.growthUpdateRule = new GrowthUpdateRule(NeighborsFunctions::neighbors3DFunction);
         this.signalingUpdateRule = new SignalingUpdateRule(NeighborsFunctions::neighbors3DFunction);
     }
@@ -80,8 +82,8 @@ public class CoDi extends AbstractAutomaton<CoDiCellState, CoDiCell> {
     }
 
     private Grid2D<CoDiCell> growthStep() { 
-        final var newState = new Grid3DImpl<CoDiCell>(this.state.getHeight(), this.state.getWidth(), this.state.getDepth());
-        for (final var coord: this.visitGrid()) {
+        final Grid3D<CoDiCell> newState = this.buffer.getBack();
+        this.visitGrid(coord -> {
             CoDiCell cell = this.state.get(coord);
             final CoDiCellState oldCellState = cell.getState();
             cell = this.growthUpdateRule.getNextCell(Pair.of(coord, cell), this.state); 
@@ -89,40 +91,44 @@ public class CoDi extends AbstractAutomaton<CoDiCellState, CoDiCell> {
                 this.changed = true;
             }
             newState.set(coord, cell);
-        }
-        return this.computeNewState(newState);
+        });
+        return this.computeNewState();
     }
 
     private Grid2D<CoDiCell> signalStep() {
-        final var newState = new Grid3DImpl<CoDiCell>(this.state.getHeight(), this.state.getWidth(), this.state.getDepth());
-        for (final var coord: this.visitGrid()) {
+        final Grid3D<CoDiCell> newState = this.buffer.getBack();
+        this.visitGrid(coord -> {
             final CoDiCell cell = this.signalingUpdateRule.getNextCell(Pair.of(coord, this.state.get(coord)), this.state);
             newState.set(coord, cell);
-        }
-        return this.computeNewState(newState);
+        });
+        return this.computeNewState();
     }
 
-    private Grid2D<CoDiCell> computeNewState(final Grid3D<CoDiCell> newState) {
-        this.state = newState;
+    private Grid2D<CoDiCell> computeNewState() {
+        this.state = this.buffer.swap();
         this.kicking();
         return this.getGrid();
     }
 
     private void signalingSetup() {
         this.hasSetupSignaling = true;
-        for (final var coord: this.visitGrid()) {
+        this.visitGrid(coord -> {
             final CoDiCell cell = this.state.get(coord);
             if (cell.getState().equals(CoDiCellState.NEURON)) { 
                 cell.setActivationCounter(this.rng.nextInt(RANDOM_ACTIVATION_COUNTER));
             } else {
                 cell.setActivationCounter(0);
             }
-        }
+        });
     }
 
-    private List<Coordinates3D<Integer>> visitGrid() {
-        return GridUtils.get3dCoordStream(this.state.getWidth(), this.state.getHeight(), this.state.getDepth())
-                .collect(Collectors.toList());
+    /**
+     * Visit the cells tile by tile, following the memory order of the grid, so that the neighbors
+     * read by the update rules are still in cache.
+     */
+    private void visitGrid(final Consumer<Coordinates3D<Integer>> action) {
+        GridUtils.forEachTiled(this.state.getHeight(), this.state.getWidth(), this.state.getDepth(),
+            GridUtils.DEFAULT_TILE_3D, (x, y, z) -> action.accept(CoordinatesUtil.of(x, y, z)));
     }
 
     /**
@@ -132,7 +138,7 @@ public class CoDi extends AbstractAutomaton<CoDiCellState, CoDiCell> {
      * @return the {@link Grid2D} representing the new layer selected.
      */
     private Grid2D<CoDiCell> changeOutputLayer(final int delta) {
-        if (this.outputLayer + delta >= 0 && this.outputLayer + delta < this.state.getWidth()) {
+        if (this.outputLayer + delta >= 0 && this.outputLayer + delta < this.state.getHeight()) {
             this.outputLayer += delta;
         }
         return this.getGrid();
@@ -159,17 +165,15 @@ public class CoDi extends AbstractAutomaton<CoDiCellState, CoDiCell> {
     @Override
     public Grid2D<CoDiCell> getGrid() {
         final int x = this.outputLayer;
-        final Grid2D<CoDiCell> gridLayer = new Grid2DImpl<>(this.state.getWidth(), this.state.getDepth());
-        for (final var z: Ranges.of(0, this.state.getDepth())) {
-            for (final var y: Ranges.of(0, this.state.getHeight())) {
-                final var coord2D = CoordinatesUtil.of(y, z);
-                final var coord3D = CoordinatesUtil.of(x, y, z);
-                CoDiCell cell = this.state.get(coord3D);
+        final Grid2D<CoDiCell> gridLayer = Grids.of(this.state.getWidth(), this.state.getDepth());
+        for (int z = 0; z < this.state.getDepth(); z++) {
+            for (int y = 0; y < this.state.getWidth(); y++) {
+                CoDiCell cell = this.state.get(x, y, z);
                 if ((cell.getState() == CoDiCellState.AXON || cell.getState() == CoDiCellState.DENDRITE) 
                         && cell.getActivationCounter() != 0) {
                     cell = this.getActiveCell(cell);
                 }
-                gridLayer.set(coord2D, cell);
+                gridLayer.set(y, z, cell);
             }
         }
         return gridLayer;
@@ -192,12 +196,12 @@ public class CoDi extends AbstractAutomaton<CoDiCellState, CoDiCell> {
 
     private void kickPositiveDirections() {
         for (int z = 0; z < this.state.getDepth(); z++) {
-            for (int y = 0; y < this.state.getHeight(); y++) {
-                for (int x = 0; x < this.state.getWidth(); x++) {
-                    final Coordinates3D<Integer> coord = CoordinatesUtil.of(x, y, z);
-                    this.setStateValueWithCheck(coord, CoordinatesUtil.of(x, y, z + 1), CoDiDirection.NORTH);
-                    this.setStateValueWithCheck(coord, CoordinatesUtil.of(x, y + 1, z), CoDiDirection.TOP);
-                    this.setStateValueWithCheck(coord, CoordinatesUtil.of(x + 1, y, z), CoDiDirection.EAST);
+            for (int y = 0; y < this.state.getWidth(); y++) {
+                for (int x = 0; x < this.state.getHeight(); x++) {
+                    final long coord = PackedCoordinates3D.pack(x, y, z);
+                    this.setStateValueWithCheck(coord, PackedCoordinates3D.pack(x, y, z + 1), CoDiDirection.NORTH);
+                    this.setStateValueWithCheck(coord, PackedCoordinates3D.pack(x, y + 1, z), CoDiDirection.TOP);
+                    this.setStateValueWithCheck(coord, PackedCoordinates3D.pack(x + 1, y, z), CoDiDirection.EAST);
                 }
             }
         }
@@ -205,25 +209,24 @@ public class CoDi extends AbstractAutomaton<CoDiCellState, CoDiCell> {
 
     private void kickNegativeDirections() {
         for (int z = this.state.getDepth() - 1; z >= 0; z--) {
-            for (int y = this.state.getHeight() - 1; y >= 0; y--) {
-                for (int x = this.state.getWidth() - 1; x >= 0; x--) {
-                    final Coordinates3D<Integer> coord = CoordinatesUtil.of(x, y, z);
-                    this.setStateValueWithCheck(coord, CoordinatesUtil.of(x, y, z - 1), CoDiDirection.SOUTH);
-                    this.setStateValueWithCheck(coord, CoordinatesUtil.of(x, y - 1, z), CoDiDirection.BOTTOM);
-                    this.setStateValueWithCheck(coord, CoordinatesUtil.of(x - 1, y, z), CoDiDirection.WEST);
+            for (int y = this.state.getWidth() - 1; y >= 0; y--) {
+                for (int x = this.state.getHeight() - 1; x >= 0; x--) {
+                    final long coord = PackedCoordinates3D.pack(x, y, z);
+                    this.setStateValueWithCheck(coord, PackedCoordinates3D.pack(x, y, z - 1), CoDiDirection.SOUTH);
+                    this.setStateValueWithCheck(coord, PackedCoordinates3D.pack(x, y - 1, z), CoDiDirection.BOTTOM);
+                    this.setStateValueWithCheck(coord, PackedCoordinates3D.pack(x - 1, y, z), CoDiDirection.WEST);
                 }
             }
         }
     }
 
-    private void setStateValueWithCheck(final Coordinates3D<Integer> coord, final Coordinates3D<Integer> neighbourCoord,
-            final CoDiDirection direction) {
-        if (this.state.isCoordValid(neighbourCoord) 
-                &&  this.state.get(coord).getNeighborsPreviousInput().containsKey(direction)) {
-            this.state.get(coord).setNeighborsPreviousInputDirection(direction,
-                    this.state.get(neighbourCoord).getSpecificNeighborsPreviousInput(direction).get());
+    private void setStateValueWithCheck(final long coord, final long neighbourCoord, final CoDiDirection direction) {
+        final CoDiCell cell = this.state.getPacked(coord);
+        if (this.state.isPackedValid(neighbourCoord) && cell.getNeighborsPreviousInput().containsKey(direction)) {
+            cell.setNeighborsPreviousInputDirection(direction,
+                    this.state.getPacked(neighbourCoord).getSpecificNeighborsPreviousInput(direction).get());
         } else {
-            this.state.get(coord).setNeighborsPreviousInputDirection(direction, 0);
+            cell.setNeighborsPreviousInputDirection(direction, 0);
         }
     }
 
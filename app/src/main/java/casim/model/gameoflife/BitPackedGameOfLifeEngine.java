@@ -0,0 +1,201 @@
+package casim.model.gameoflife;
+
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+
+/**
+ * {@link GameOfLifeEngine} that packs 64 cells in a long and computes a whole word of
+ * the next generation at once, counting the neighbors with a bitwise adder.
+ * Cells outside the grid are always dead, as in the {@link StandardGameOfLifeEngine}.
+ */
+//package-private
+class BitPackedGameOfLifeEngine implements GameOfLifeEngine {
+
+    private static final int WORD_SIZE = 64;
+    private static final int LAST_BIT = WORD_SIZE - 1;
+    private static final GameOfLifeCell ALIVE_CELL = new GameOfLifeCell(GameOfLifeState.ALIVE);
+    private static final GameOfLifeCell DEAD_CELL = new GameOfLifeCell(GameOfLifeState.DEAD);
+
+    private final int rows;
+    private final int columns;
+    private final int words;
+    private final long lastWordMask;
+    private final Grid2D<GameOfLifeCell> view = new CellView();
+    private long[] current;
+    private long[] next;
+
+    /**
+     * Construct a new {@link BitPackedGameOfLifeEngine}.
+     *
+     * @param state the initial state of the grid.
+     */
+    BitPackedGameOfLifeEngine(final Grid2D<GameOfLifeState> state) {
+        this.rows = state.getHeight();
+        this.columns = state.getWidth();
+        this.words = (this.columns + LAST_BIT) / WORD_SIZE;
+        final int lastBits = this.columns % WORD_SIZE;
+        this.lastWordMask = lastBits == 0 ? -1L : (1L << lastBits) - 1;
+        this.current = new long[this.rows * this.words];
+        this.next = new long[this.rows * this.words];
+        for (int row = 0; row < this.rows; row++) {
+            for (int column = 0; column < this.columns; column++) {
+                this.setAlive(row, column, state.get(row, column) == GameOfLifeState.ALIVE);
+            }
+        }
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> step() {
+        for (int row = 0; row < this.rows; row++) {
+            for (int word = 0; word < this.words; word++) {
+                this.next[row * this.words + word] = this.nextWord(row, word);
+            }
+        }
+        final long[] tmp = this.current;
+        this.current = this.next;
+        this.next = tmp;
+        return this.view;
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> getGrid() {
+        return this.view;
+    }
+
+    private long nextWord(final int row, final int word) {
+        final long up = this.wordAt(row - 1, word);
+        final long mid = this.wordAt(row, word);
+        final long down = this.wordAt(row + 1, word);
+        final long upLeft = this.shiftLeft(row - 1, word, up);
+        final long upRight = this.shiftRight(row - 1, word, up);
+        final long left = this.shiftLeft(row, word, mid);
+        final long right = this.shiftRight(row, word, mid);
+        final long downLeft = this.shiftLeft(row + 1, word, down);
+        final long downRight = this.shiftRight(row + 1, word, down);
+
+        // Sum the eight neighbors words bit by bit with a tree of full adders.
+        final long upSum = upLeft ^ up ^ upRight;
+        final long upCarry = upLeft & up | upRight & (upLeft ^ up);
+        final long midSum = left ^ right;
+        final long midCarry = left & right;
+        final long downSum = downLeft ^ down ^ downRight;
+        final long downCarry = downLeft & down | downRight & (downLeft ^ down);
+        final long ones = upSum ^ midSum ^ downSum;
+        final long onesCarry = upSum & midSum | downSum & (upSum ^ midSum);
+        final long carrySum = upCarry ^ midCarry ^ downCarry;
+        final long carryCarry = upCarry & midCarry | downCarry & (upCarry ^ midCarry);
+        final long twos = carrySum ^ onesCarry;
+        final long fours = carryCarry | carrySum & onesCarry;
+
+        // A cell is alive with exactly three neighbors, or with two if it was already alive.
+        final long result = ~fours & twos & (ones | mid);
+        return word == this.words - 1 ? result & this.lastWordMask : result;
+    }
+
+    /**
+     * Return the word where each bit holds the state of the cell at its left (column - 1).
+     */
+    private long shiftLeft(final int row, final int word, final long value) {
+        return value << 1 | this.wordAt(row, word - 1) >>> LAST_BIT;
+    }
+
+    /**
+     * Return the word where each bit holds the state of the cell at its right (column + 1).
+     */
+    private long shiftRight(final int row, final int word, final long value) {
+        return value >>> 1 | this.wordAt(row, word + 1) << LAST_BIT;
+    }
+
+    private long wordAt(final int row, final int word) {
+        if (row < 0 || row >= this.rows || word < 0 || word >= this.words) {
+            return 0;
+        }
+        return this.current[row * this.words + word];
+    }
+
+    private boolean isAlive(final int row, final int column) {
+        return (this.current[row * this.words + column / WORD_SIZE] >>> (column % WORD_SIZE) & 1) != 0;
+    }
+
+    private void setAlive(final int row, final int column, final boolean alive) {
+        final int index = row * this.words + column / WORD_SIZE;
+        final long bit = 1L << (column % WORD_SIZE);
+        this.current[index] = alive ? this.current[index] | bit : this.current[index] & ~bit;
+    }
+
+    /**
+     * {@link Grid2D} view of the packed cells of the current generation.
+     */
+    private class CellView implements Grid2D<GameOfLifeCell> {
+
+        @Override
+        public int getWidth() {
+            return BitPackedGameOfLifeEngine.this.columns;
+        }
+
+        @Override
+        public int getHeight() {
+            return BitPackedGameOfLifeEngine.this.rows;
+        }
+
+        @Override
+        public GameOfLifeCell get(final Coordinates2D<Integer> coord) {
+            return this.get(coord.getX(), coord.getY());
+        }
+
+        @Override
+        public void set(final Coordinates2D<Integer> coord, final GameOfLifeCell value) {
+            this.set(coord.getX(), coord.getY(), value);
+        }
+
+        @Override
+        public boolean isCoordValid(final Coordinates2D<Integer> coord) {
+            return this.isCoordValid(coord.getX(), coord.getY());
+        }
+
+        @Override
+        public Stream<GameOfLifeCell> stream() {
+            return IntStream.range(0, this.getHeight() * this.getWidth())
+                .mapToObj(i -> this.cellAt(i / this.getWidth(), i % this.getWidth()));
+        }
+
+        @Override
+        public GameOfLifeCell get(final int row, final int column) {
+            this.throwIfOutOfBound(row, column);
+            return this.cellAt(row, column);
+        }
+
+        @Override
+        public void set(final int row, final int column, final GameOfLifeCell value) {
+            this.throwIfOutOfBound(row, column);
+            BitPackedGameOfLifeEngine.this.setAlive(row, column, value.getState() == GameOfLifeState.ALIVE);
+        }
+
+        @Override
+        public <O> Grid2D<O> map(final Function<GameOfLifeCell, O> mapper) {
+            return Grids.of(this.getHeight(), this.getWidth(), coord -> mapper.apply(this.get(coord)));
+        }
+
+        private GameOfLifeCell cellAt(final int row, final int column) {
+            return BitPackedGameOfLifeEngine.this.isAlive(row, column) ? ALIVE_CELL : DEAD_CELL;
+        }
+
+        @Override
+        public boolean isCoordValid(final int row, final int column) {
+            return row >= 0 && row < this.getHeight() && column >= 0 && column < this.getWidth();
+        }
+
+        private void throwIfOutOfBound(final int row, final int column) {
+            if (!this.isCoordValid(row, column)) {
+                throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth()
+                    + "Coord: " + CoordinatesUtil.of(row, column));
+            }
+        }
+    }
+}
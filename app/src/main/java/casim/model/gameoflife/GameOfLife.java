@@ -1,22 +1,16 @@
 package casim.model.gameoflife;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import casim.model.abstraction.automaton.AbstractAutomaton;
-import casim.model.abstraction.utils.NeighborsFunctions;
-import casim.utils.coordinate.CoordinatesUtil;
 import casim.utils.grid.Grid2D;
-import casim.utils.grid.Grid2DImpl;
-import casim.utils.range.Ranges;
 
 /**
  * Class that models the Game Of Life.
  */
 public class GameOfLife extends AbstractAutomaton<GameOfLifeState, GameOfLifeCell> {
 
-    private Grid2D<GameOfLifeCell> state;
-    private final GameOfLifeUpdateRule updateRule
-        = new GameOfLifeUpdateRule(NeighborsFunctions::mooreNeighborsFunction);
+    private static final String UNKNOWN_ENGINE = "Unknown engine.";
+
+    private final GameOfLifeEngine engine;
 
     /**
      * Constructor of the {@link Grid2D} filled with {@link GameOfLifeState}.
@@ -24,7 +18,84 @@ public class GameOfLife extends AbstractAutomaton<GameOfLifeState, GameOfLifeCel
      * @param state starting state for all {@link GameOfLifeCell}.
      */
     public GameOfLife(final Grid2D<GameOfLifeState> state) {
-        this.state = state.map(s -> new GameOfLifeCell(s));
+        this(state, GameOfLifeEngineType.STANDARD);
+    }
+
+    /**
+     * Constructor of the {@link Grid2D} filled with {@link GameOfLifeState} that uses a specific engine.
+     * 
+     * @param state starting state for all {@link GameOfLifeCell}.
+     * @param engineType the {@link GameOfLifeEngineType} used to compute the generations.
+     */
+    public GameOfLife(final Grid2D<GameOfLifeState> state, final GameOfLifeEngineType engineType) {
+        this(state, engineType, 1);
+    }
+
+    /**
+     * Constructor of the {@link Grid2D} filled with {@link GameOfLifeState} that uses a specific engine,
+     * computing each step on several threads. Only the {@link GameOfLifeEngineType#STANDARD} engine
+     * is parallel, the others ignore the parallelism. The generations are the same computed by a single thread.
+     * 
+     * @param state starting state for all {@link GameOfLifeCell}.
+     * @param engineType the {@link GameOfLifeEngineType} used to compute the generations.
+     * @param parallelism the number of threads used to compute each step.
+     */
+    public GameOfLife(final Grid2D<GameOfLifeState> state, final GameOfLifeEngineType engineType,
+            final int parallelism) {
+        this.engine = createEngine(state, engineType, parallelism);
+    }
+
+    /**
+     * Constructor of the {@link Grid2D} filled with {@link GameOfLifeState} that follows a Life-like rule
+     * other than B3/S23. The rule is applied by the {@link GameOfLifeEngineType#STANDARD} engine,
+     * because the other engines are specialized for B3/S23.
+     * 
+     * @param state starting state for all {@link GameOfLifeCell}.
+     * @param rule the Life-like rule, such as B36/S23.
+     * @throws IllegalArgumentException if the rule is not a valid Life-like rule.
+     */
+    public GameOfLife(final Grid2D<GameOfLifeState> state, final String rule) {
+        this(state, rule, 1);
+    }
+
+    /**
+     * Constructor of the {@link Grid2D} filled with {@link GameOfLifeState} that follows a Life-like rule
+     * other than B3/S23, computing each step on several threads.
+     * The generations are the same computed by a single thread.
+     * 
+     * @param state starting state for all {@link GameOfLifeCell}.
+     * @param rule the Life-like rule, such as B36/S23.
+     * @param parallelism the number of threads used to compute each step.
+     * @throws IllegalArgumentException if the rule is not a valid Life-like rule.
+     */
+    public GameOfLife(final Grid2D<GameOfLifeState> state, final String rule, final int parallelism) {
+        this.engine = new StandardGameOfLifeEngine(state, new GameOfLifeUpdateRule(rule), parallelism);
+    }
+
+    /**
+     * Constructor of the {@link Grid2D} filled with {@link GameOfLifeState} that uses the
+     * {@link GameOfLifeEngineType#HASHLIFE} engine and advances of 2^stepExponent generations at every step,
+     * so that the evolution of a large pattern can be followed far ahead.
+     * 
+     * @param state starting state for all {@link GameOfLifeCell}.
+     * @param stepExponent the base two logarithm of the number of generations computed by every step.
+     * @throws IllegalArgumentException if the exponent is negative or greater than {@link HashLife#MAX_STEP_EXPONENT}.
+     */
+    public GameOfLife(final Grid2D<GameOfLifeState> state, final int stepExponent) {
+        this.engine = new HashLifeGameOfLifeEngine(state, stepExponent);
+    }
+
+    /**
+     * Advance the automaton of any number of generations at once, as a single iteration.
+     * The {@link GameOfLifeEngineType#HASHLIFE} engine skips ahead in time logarithmic in the number of
+     * generations, the other engines compute them one at a time.
+     * 
+     * @param generations the number of generations.
+     * @return a {@link Grid2D} describing the new generation.
+     * @throws IllegalArgumentException if the number of generations is negative.
+     */
+    public Grid2D<GameOfLifeCell> advanceBy(final long generations) {
+        return this.engine.advanceBy(generations);
     }
 
     /**
@@ -41,17 +112,7 @@ public class GameOfLife extends AbstractAutomaton<GameOfLifeState, GameOfLifeCel
      */
     @Override
     protected Grid2D<GameOfLifeCell> doStep() {
-        final var newState = new Grid2DImpl<GameOfLifeCell>(this.state.getHeight(), this.state.getWidth());
-
-        for (final var x : Ranges.of(0, this.state.getHeight())) {
-            for (final var y : Ranges.of(0, this.state.getWidth())) {
-                final var coord = CoordinatesUtil.of(x, y);
-                newState.set(coord, this.updateRule.getNextCell(Pair.of(coord, this.state.get(coord)), this.state));
-            }
-        }
-
-        this.state = newState;
-        return this.state;
+        return this.engine.step();
     }
 
     /**
@@ -59,6 +120,22 @@ public class GameOfLife extends AbstractAutomaton<GameOfLifeState, GameOfLifeCel
      */
     @Override
     public Grid2D<GameOfLifeCell> getGrid() {
-        return this.state;
+        return this.engine.getGrid();
+    }
+
+    private static GameOfLifeEngine createEngine(final Grid2D<GameOfLifeState> state,
+            final GameOfLifeEngineType engineType, final int parallelism) {
+        switch (engineType) {
+            case STANDARD:
+                return new StandardGameOfLifeEngine(state, new GameOfLifeUpdateRule(), parallelism);
+            case BIT_PACKED:
+                return new BitPackedGameOfLifeEngine(state);
+            case SPARSE:
+                return new SparseGameOfLifeEngine(state);
+            case HASHLIFE:
+                return new HashLifeGameOfLifeEngine(state, 0);
+            default:
+                throw new IllegalArgumentException(UNKNOWN_ENGINE);
+        }
     }
 }
@@ -0,0 +1,42 @@
+package casim.model.gameoflife;
+
+import casim.utils.grid.Grid2D;
+
+/**
+ * The engine used by {@link GameOfLife} to compute its generations.
+ */
+//package-private
+interface GameOfLifeEngine {
+
+    /**
+     * Advance the engine of one generation.
+     *
+     * @return a {@link Grid2D} describing the new generation.
+     */
+    Grid2D<GameOfLifeCell> step();
+
+    /**
+     * Advance the engine of any number of generations. The default implementation
+     * computes them one at a time.
+     *
+     * @param generations the number of generations.
+     * @return a {@link Grid2D} describing the new generation.
+     * @throws IllegalArgumentException if the number of generations is negative.
+     */
+    default Grid2D<GameOfLifeCell> advanceBy(final long generations) {
+        if (generations < 0) {
+            throw new IllegalArgumentException("Invalid number of generations: " + generations);
+        }
+        for (long i = 0; i < generations; i++) {
+            this.step();
+        }
+        return this.getGrid();
+    }
+
+    /**
+     * Return the current generation.
+     *
+     * @return a {@link Grid2D} describing the current generation.
+     */
+    Grid2D<GameOfLifeCell> getGrid();
+}
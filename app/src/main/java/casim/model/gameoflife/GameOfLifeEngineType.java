@@ -0,0 +1,28 @@
+package casim.model.gameoflife;
+
+/**
+ * The engines that {@link GameOfLife} can use to compute its generations.
+ */
+public enum GameOfLifeEngineType {
+    /**
+     * Engine that applies the {@link GameOfLifeUpdateRule} to every cell.
+     */
+    STANDARD,
+
+    /**
+     * Engine that packs 64 cells in a long and updates a whole word at once.
+     */
+    BIT_PACKED,
+
+    /**
+     * Engine that stores only the tiles containing alive cells, on an unbounded plane:
+     * patterns are not clipped by the edges of the grid, that only define the visible part of the plane.
+     */
+    SPARSE,
+
+    /**
+     * Engine that computes the generations with the {@link HashLife} algorithm, on an unbounded plane
+     * like {@link #SPARSE}.
+     */
+    HASHLIFE;
+}
@@ -1,22 +1,46 @@
 package casim.model.gameoflife;
 
 import java.util.List;
-import java.util.function.BiFunction;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import casim.model.abstraction.rule.AbstractUpdateRule;
+import casim.model.abstraction.rule.CursorUpdateRule;
+import casim.model.abstraction.rule.EnumTotalisticRule;
+import casim.model.abstraction.rule.NeighborCursor;
+import casim.model.abstraction.utils.NeighborsFunctions;
 import casim.utils.coordinate.Coordinates2D;
-import casim.utils.grid.Grid;
 
 /**
  * The GameOfLife's rule used to update the GameOfLifeCell's state.
  */
 //package-private
-class GameOfLifeUpdateRule extends AbstractUpdateRule<Coordinates2D<Integer>, GameOfLifeCell> {
+class GameOfLifeUpdateRule extends AbstractUpdateRule<Coordinates2D<Integer>, GameOfLifeCell>
+        implements CursorUpdateRule<GameOfLifeCell> {
+    private static final String DEFAULT_RULE = "B3/S23";
+
+    private final EnumTotalisticRule<GameOfLifeState> rule;
+
     //package-private
-    GameOfLifeUpdateRule(final BiFunction<Pair<Coordinates2D<Integer>, GameOfLifeCell>, Grid<Coordinates2D<Integer>, GameOfLifeCell>, List<Pair<Coordinates2D<Integer>, GameOfLifeCell>>> neighborsFunction) {
-        super(neighborsFunction);
+    GameOfLifeUpdateRule() {
+        this(DEFAULT_RULE);
+    }
+
+    /**
+     * Construct a new {@link GameOfLifeUpdateRule} that follows a Life-like rule.
+     * 
+     * @param rule the Life-like rule, such as B3/S23 or B36/S23.
+     * @throws IllegalArgumentException if the rule is not a valid Life-like rule.
+     */
+    //package-private
+    GameOfLifeUpdateRule(final String rule) {
+        super(NeighborsFunctions::mooreNeighborsFunction);
+        this.rule = new EnumTotalisticRule<>(rule, List.of(GameOfLifeState.DEAD, GameOfLifeState.ALIVE));
+    }
+
+    @Override
+    public GameOfLifeCell getNextCell(final GameOfLifeCell cell, final NeighborCursor<GameOfLifeCell> neighbors) {
+        return this.nextCell(cell, neighbors.count(neighbor -> neighbor.getState() == GameOfLifeState.ALIVE));
     }
 
     /**
@@ -28,22 +52,18 @@ class GameOfLifeUpdateRule extends AbstractUpdateRule<Coordinates2D<Integer>, Ga
     @Override
     protected GameOfLifeCell nextCell(final Pair<Coordinates2D<Integer>, GameOfLifeCell> cellPair,
         final List<Pair<Coordinates2D<Integer>, GameOfLifeCell>> neighborsPairs) {
+        return this.nextCell(cellPair.getRight(), this.countAliveNeighbors(neighborsPairs));
+    }
 
-        final int aliveCells = this.countAliveNeighbors(neighborsPairs);
-
-        if (cellPair.getRight().getState() == GameOfLifeState.ALIVE) {
-            if (aliveCells == 2 || aliveCells == 3) {
-                return new GameOfLifeCell(GameOfLifeState.ALIVE);
-            } else {
-                return new GameOfLifeCell(GameOfLifeState.DEAD);
-            }
-        } else {
-            if (aliveCells == 3) {
-                return new GameOfLifeCell(GameOfLifeState.ALIVE);
-            } else {
-                return new GameOfLifeCell(GameOfLifeState.DEAD);
-            }
-        }
+    /**
+     * Calculate the next state of a {@link GameOfLifeCell}, given the number of its alive neighbors.
+     * 
+     * @param cell the {@link GameOfLifeCell} to update.
+     * @param aliveCells the number of alive neighbors of the cell.
+     * @return the updated cell.
+     */
+    private GameOfLifeCell nextCell(final GameOfLifeCell cell, final int aliveCells) {
+        return new GameOfLifeCell(this.rule.next(cell.getState(), aliveCells));
     }
 
     /**
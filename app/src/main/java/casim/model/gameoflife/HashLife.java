@@ -0,0 +1,413 @@
+package casim.model.gameoflife;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+
+/**
+ * Game Of Life on an unbounded plane computed with the HashLife algorithm.
+ * The plane is a quadtree whose nodes are canonical, so that equal regions are stored once,
+ * and every node remembers the result of its evolution: repetitive patterns can be advanced
+ * by a huge number of generations in a time that depends on their complexity instead of on the generations.
+ * The generations are advanced by powers of two, through {@link #advance(int)}, and any region of the plane
+ * can be read with {@link #getViewport(long, long, int, int)}.
+ */
+public final class HashLife {
+
+    /**
+     * The maximum exponent accepted by {@link #advance(int)}: a step needs a root three levels above the exponent,
+     * and the side of the root must fit in a long.
+     */
+    public static final int MAX_STEP_EXPONENT = 59;
+    private static final int MAX_LEVEL = MAX_STEP_EXPONENT + 3;
+    private static final int MIN_LEVEL = 3;
+    private static final int MAX_NODES = 1 << 22;
+    private static final int BASE_SIZE = 4;
+    private static final int HASH_MULTIPLIER = 31;
+
+    private final Map<Node, Node> nodes = new HashMap<>();
+    private final Map<Integer, Node> emptyNodes = new HashMap<>();
+    private Node root;
+    private long originRow;
+    private long originColumn;
+    private long generation;
+
+    /**
+     * Construct a new {@link HashLife} whose plane is dead except for the given grid, placed at (0, 0).
+     *
+     * @param state the initial state of the grid.
+     */
+    public HashLife(final Grid2D<GameOfLifeState> state) {
+        int level = MIN_LEVEL;
+        while (1L << level < Math.max(state.getHeight(), state.getWidth())) {
+            level++;
+        }
+        this.root = this.build(state, level, 0, 0);
+    }
+
+    /**
+     * Advance the plane by 2^exponent generations.
+     *
+     * @param exponent the base two logarithm of the number of generations.
+     * @throws IllegalArgumentException if the exponent is negative or greater than {@link #MAX_STEP_EXPONENT}.
+     * @throws IllegalStateException if the generation counter would overflow
+     *     or the pattern has grown too large to be advanced.
+     */
+    public void advance(final int exponent) {
+        if (exponent < 0 || exponent > MAX_STEP_EXPONENT) {
+            throw new IllegalArgumentException("Invalid exponent: " + exponent);
+        }
+        this.checkGenerations(1L << exponent);
+        if (this.nodes.size() > MAX_NODES) {
+            this.collectGarbage();
+        }
+        while (this.root.level < exponent + 2 || !this.isPadded()) {
+            this.expand();
+        }
+        // A further empty ring leaves room for the pattern to grow by 2^exponent cells on every side.
+        this.expand();
+        final long offset = 1L << (this.root.level - 2);
+        this.root = this.successor(this.root, exponent);
+        this.originRow += offset;
+        this.originColumn += offset;
+        this.generation += 1L << exponent;
+    }
+
+    /**
+     * Advance the plane by any number of generations, as a sum of powers of two.
+     *
+     * @param generations the number of generations.
+     * @throws IllegalArgumentException if the number of generations is negative.
+     * @throws IllegalStateException if the generation counter would overflow
+     *     or the pattern has grown too large to be advanced.
+     */
+    public void advanceBy(final long generations) {
+        if (generations < 0) {
+            throw new IllegalArgumentException("Invalid number of generations: " + generations);
+        }
+        this.checkGenerations(generations);
+        for (int exponent = 0; exponent < MAX_STEP_EXPONENT; exponent++) {
+            if ((generations >>> exponent & 1) != 0) {
+                this.advance(exponent);
+            }
+        }
+        for (long i = generations >>> MAX_STEP_EXPONENT; i > 0; i--) {
+            this.advance(MAX_STEP_EXPONENT);
+        }
+    }
+
+    private void checkGenerations(final long generations) {
+        if (generations > Long.MAX_VALUE - this.generation) {
+            throw new IllegalStateException("The generation counter would overflow.");
+        }
+    }
+
+    /**
+     * Return the number of generations computed since the construction.
+     *
+     * @return the current generation.
+     */
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Return the number of alive cells of the plane.
+     *
+     * @return the population of the plane.
+     */
+    public long getPopulation() {
+        return this.root.population;
+    }
+
+    /**
+     * Return the state of a cell of the plane.
+     *
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @return the state of the cell.
+     */
+    public GameOfLifeState get(final long row, final long column) {
+        long r = row - this.originRow;
+        long c = column - this.originColumn;
+        if (r < 0 || c < 0 || r >= 1L << this.root.level || c >= 1L << this.root.level) {
+            return GameOfLifeState.DEAD;
+        }
+        Node node = this.root;
+        while (node.level > 0 && node.population > 0) {
+            final long half = 1L << (node.level - 1);
+            if (r < half) {
+                node = c < half ? node.nw : node.ne;
+            } else {
+                node = c < half ? node.sw : node.se;
+                r -= half;
+            }
+            if (c >= half) {
+                c -= half;
+            }
+        }
+        return node.population > 0 ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD;
+    }
+
+    /**
+     * Return a rectangular region of the plane.
+     *
+     * @param row the row of the top left cell of the region.
+     * @param column the column of the top left cell of the region.
+     * @param rows the number of rows of the region.
+     * @param columns the number of columns of the region.
+     * @return a {@link Grid2D} holding the states of the region.
+     */
+    public Grid2D<GameOfLifeState> getViewport(final long row, final long column, final int rows, final int columns) {
+        final Grid2D<GameOfLifeState> viewport = Grids.of(rows, columns, () -> GameOfLifeState.DEAD);
+        this.fill(viewport, this.root, this.originRow - row, this.originColumn - column);
+        return viewport;
+    }
+
+    /**
+     * Set the alive cells of the node, placed at the given position of the viewport.
+     */
+    private void fill(final Grid2D<GameOfLifeState> viewport, final Node node, final long row, final long column) {
+        final long size = 1L << node.level;
+        if (node.population == 0 || row >= viewport.getHeight() || column >= viewport.getWidth()
+                || row + size <= 0 || column + size <= 0) {
+            return;
+        }
+        if (node.level == 0) {
+            viewport.set((int) row, (int) column, GameOfLifeState.ALIVE);
+            return;
+        }
+        final long half = size / 2;
+        this.fill(viewport, node.nw, row, column);
+        this.fill(viewport, node.ne, row, column + half);
+        this.fill(viewport, node.sw, row + half, column);
+        this.fill(viewport, node.se, row + half, column + half);
+    }
+
+    private Node build(final Grid2D<GameOfLifeState> state, final int level, final int row, final int column) {
+        if (row >= state.getHeight() || column >= state.getWidth()) {
+            return this.empty(level);
+        }
+        if (level == 0) {
+            return state.get(row, column) == GameOfLifeState.ALIVE ? Node.ALIVE : Node.DEAD;
+        }
+        final int half = 1 << (level - 1);
+        return this.join(this.build(state, level - 1, row, column), this.build(state, level - 1, row, column + half),
+            this.build(state, level - 1, row + half, column), this.build(state, level - 1, row + half, column + half));
+    }
+
+    /**
+     * Return the canonical node with the given quadrants.
+     */
+    private Node join(final Node nw, final Node ne, final Node sw, final Node se) {
+        final Node node = new Node(nw, ne, sw, se);
+        final Node canonical = this.nodes.putIfAbsent(node, node);
+        return canonical == null ? node : canonical;
+    }
+
+    private Node empty(final int level) {
+        if (level == 0) {
+            return Node.DEAD;
+        }
+        Node node = this.emptyNodes.get(level);
+        if (node == null) {
+            final Node child = this.empty(level - 1);
+            node = this.join(child, child, child, child);
+            this.emptyNodes.put(level, node);
+        }
+        return node;
+    }
+
+    /**
+     * Return the node of the level below made of the central cells of the given one.
+     */
+    private Node centre(final Node node) {
+        return this.join(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+    }
+
+    /**
+     * Double the side of the root, keeping it in the centre of the new one.
+     * The level of the root is capped so that its side, and the distance of any of its cells from the origin,
+     * always fit in a long.
+     */
+    private void expand() {
+        if (this.root.level >= MAX_LEVEL) {
+            throw new IllegalStateException("The pattern is too large to be advanced.");
+        }
+        final Node border = this.empty(this.root.level - 1);
+        final long shift = 1L << (this.root.level - 1);
+        this.root = this.join(this.join(border, border, border, this.root.nw),
+            this.join(border, border, this.root.ne, border),
+            this.join(border, this.root.sw, border, border),
+            this.join(this.root.se, border, border, border));
+        this.originRow -= shift;
+        this.originColumn -= shift;
+    }
+
+    /**
+     * Return true if all the alive cells are in the central half of the root.
+     */
+    private boolean isPadded() {
+        return this.root.nw.population == this.root.nw.se.population
+            && this.root.ne.population == this.root.ne.sw.population
+            && this.root.sw.population == this.root.sw.ne.population
+            && this.root.se.population == this.root.se.nw.population;
+    }
+
+    /**
+     * Return the central node of the level below after 2^exponent generations,
+     * where the exponent is at most the level of the node minus two.
+     */
+    private Node successor(final Node node, final int exponent) {
+        if (node.result != null && node.resultExponent == exponent) {
+            return node.result;
+        }
+        final Node result;
+        if (node.population == 0) {
+            result = node.nw;
+        } else if (node.level == 2) {
+            result = this.lifeStep(node);
+        } else {
+            final Node n00 = node.nw;
+            final Node n01 = this.join(node.nw.ne, node.ne.nw, node.nw.se, node.ne.sw);
+            final Node n02 = node.ne;
+            final Node n10 = this.join(node.nw.sw, node.nw.se, node.sw.nw, node.sw.ne);
+            final Node n11 = this.join(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+            final Node n12 = this.join(node.ne.sw, node.ne.se, node.se.nw, node.se.ne);
+            final Node n20 = node.sw;
+            final Node n21 = this.join(node.sw.ne, node.se.nw, node.sw.se, node.se.sw);
+            final Node n22 = node.se;
+            final boolean full = exponent == node.level - 2;
+            final Node r00 = full ? this.successor(n00, exponent - 1) : this.centre(n00);
+            final Node r01 = full ? this.successor(n01, exponent - 1) : this.centre(n01);
+            final Node r02 = full ? this.successor(n02, exponent - 1) : this.centre(n02);
+            final Node r10 = full ? this.successor(n10, exponent - 1) : this.centre(n10);
+            final Node r11 = full ? this.successor(n11, exponent - 1) : this.centre(n11);
+            final Node r12 = full ? this.successor(n12, exponent - 1) : this.centre(n12);
+            final Node r20 = full ? this.successor(n20, exponent - 1) : this.centre(n20);
+            final Node r21 = full ? this.successor(n21, exponent - 1) : this.centre(n21);
+            final Node r22 = full ? this.successor(n22, exponent - 1) : this.centre(n22);
+            final int next = full ? exponent - 1 : exponent;
+            result = this.join(this.successor(this.join(r00, r01, r10, r11), next),
+                this.successor(this.join(r01, r02, r11, r12), next),
+                this.successor(this.join(r10, r11, r20, r21), next),
+                this.successor(this.join(r11, r12, r21, r22), next));
+        }
+        node.result = result;
+        node.resultExponent = exponent;
+        return result;
+    }
+
+    /**
+     * Compute by brute force the central 2 x 2 cells of a 4 x 4 node after one generation.
+     */
+    private Node lifeStep(final Node node) {
+        final boolean[][] cells = new boolean[BASE_SIZE][BASE_SIZE];
+        final Node[] quadrants = {node.nw, node.ne, node.sw, node.se};
+        for (int q = 0; q < quadrants.length; q++) {
+            final int row = q / 2 * 2;
+            final int column = q % 2 * 2;
+            cells[row][column] = quadrants[q].nw.population > 0;
+            cells[row][column + 1] = quadrants[q].ne.population > 0;
+            cells[row + 1][column] = quadrants[q].sw.population > 0;
+            cells[row + 1][column + 1] = quadrants[q].se.population > 0;
+        }
+        return this.join(this.nextCell(cells, 1, 1), this.nextCell(cells, 1, 2),
+            this.nextCell(cells, 2, 1), this.nextCell(cells, 2, 2));
+    }
+
+    private Node nextCell(final boolean[][] cells, final int row, final int column) {
+        int alive = 0;
+        for (int i = row - 1; i <= row + 1; i++) {
+            for (int j = column - 1; j <= column + 1; j++) {
+                if ((i != row || j != column) && cells[i][j]) {
+                    alive++;
+                }
+            }
+        }
+        return alive == 3 || alive == 2 && cells[row][column] ? Node.ALIVE : Node.DEAD;
+    }
+
+    /**
+     * Rebuild the table of the canonical nodes keeping only the ones reachable from the root,
+     * and forget the memoized results.
+     */
+    private void collectGarbage() {
+        this.nodes.clear();
+        this.emptyNodes.clear();
+        this.keep(this.root);
+    }
+
+    private void keep(final Node node) {
+        if (node.level == 0 || this.nodes.containsKey(node)) {
+            return;
+        }
+        node.result = null;
+        this.nodes.put(node, node);
+        this.keep(node.nw);
+        this.keep(node.ne);
+        this.keep(node.sw);
+        this.keep(node.se);
+    }
+
+    /**
+     * Node of the quadtree, covering a square of 2^level cells per side.
+     * The nodes are compared by the identity of their quadrants, which is enough because they are canonical.
+     */
+    private static final class Node {
+
+        private static final Node ALIVE = new Node(1);
+        private static final Node DEAD = new Node(0);
+
+        private final int level;
+        private final Node nw;
+        private final Node ne;
+        private final Node sw;
+        private final Node se;
+        private final long population;
+        private final int hash;
+        private Node result;
+        private int resultExponent;
+
+        private Node(final long population) {
+            this.level = 0;
+            this.nw = null;
+            this.ne = null;
+            this.sw = null;
+            this.se = null;
+            this.population = population;
+            this.hash = (int) population;
+        }
+
+        private Node(final Node nw, final Node ne, final Node sw, final Node se) {
+            this.level = nw.level + 1;
+            this.nw = nw;
+            this.ne = ne;
+            this.sw = sw;
+            this.se = se;
+            this.population = nw.population + ne.population + sw.population + se.population;
+            this.hash = ((System.identityHashCode(nw) * HASH_MULTIPLIER + System.identityHashCode(ne)) * HASH_MULTIPLIER
+                + System.identityHashCode(sw)) * HASH_MULTIPLIER + System.identityHashCode(se);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Node)) {
+                return false;
+            }
+            final Node other = (Node) obj;
+            return this.level > 0 && this.nw == other.nw && this.ne == other.ne
+                && this.sw == other.sw && this.se == other.se;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
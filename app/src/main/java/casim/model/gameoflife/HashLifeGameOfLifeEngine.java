@@ -0,0 +1,54 @@
+package casim.model.gameoflife;
+
+import casim.utils.grid.Grid2D;
+
+/**
+ * {@link GameOfLifeEngine} on an unbounded plane backed by {@link HashLife}, that advances of 2^stepExponent
+ * generations at every step and shows the region of the plane covered by the initial grid.
+ */
+//package-private
+class HashLifeGameOfLifeEngine implements GameOfLifeEngine {
+
+    private static final GameOfLifeCell ALIVE_CELL = new GameOfLifeCell(GameOfLifeState.ALIVE);
+    private static final GameOfLifeCell DEAD_CELL = new GameOfLifeCell(GameOfLifeState.DEAD);
+
+    private final HashLife hashLife;
+    private final int rows;
+    private final int columns;
+    private final int stepExponent;
+
+    /**
+     * Construct a new {@link HashLifeGameOfLifeEngine}.
+     *
+     * @param state the initial state of the visible part of the plane.
+     * @param stepExponent the base two logarithm of the number of generations computed by every step.
+     * @throws IllegalArgumentException if the exponent is negative or greater than {@link HashLife#MAX_STEP_EXPONENT}.
+     */
+    HashLifeGameOfLifeEngine(final Grid2D<GameOfLifeState> state, final int stepExponent) {
+        if (stepExponent < 0 || stepExponent > HashLife.MAX_STEP_EXPONENT) {
+            throw new IllegalArgumentException("Invalid exponent: " + stepExponent);
+        }
+        this.hashLife = new HashLife(state);
+        this.rows = state.getHeight();
+        this.columns = state.getWidth();
+        this.stepExponent = stepExponent;
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> step() {
+        this.hashLife.advance(this.stepExponent);
+        return this.getGrid();
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> advanceBy(final long generations) {
+        this.hashLife.advanceBy(generations);
+        return this.getGrid();
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> getGrid() {
+        return this.hashLife.getViewport(0, 0, this.rows, this.columns)
+            .map(s -> s == GameOfLifeState.ALIVE ? ALIVE_CELL : DEAD_CELL);
+    }
+}
@@ -0,0 +1,87 @@
+package casim.model.gameoflife;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.grid.ChunkedGrid2D;
+import casim.utils.grid.Grid2D;
+
+/**
+ * {@link GameOfLifeEngine} on an unbounded plane backed by a {@link ChunkedGrid2D}.
+ * Only the tiles that contain alive cells, and the ones next to them, are computed at every step,
+ * so the cost depends on the population instead of the size of the grid.
+ */
+//package-private
+class SparseGameOfLifeEngine implements GameOfLifeEngine {
+
+    private static final int TILE_SIZE = ChunkedGrid2D.TILE_SIZE;
+    private static final GameOfLifeCell ALIVE_CELL = new GameOfLifeCell(GameOfLifeState.ALIVE);
+    private static final GameOfLifeCell DEAD_CELL = new GameOfLifeCell(GameOfLifeState.DEAD);
+
+    private ChunkedGrid2D<GameOfLifeCell> state;
+
+    /**
+     * Construct a new {@link SparseGameOfLifeEngine}.
+     *
+     * @param state the initial state of the visible part of the plane.
+     */
+    SparseGameOfLifeEngine(final Grid2D<GameOfLifeState> state) {
+        this.state = new ChunkedGrid2D<>(state.map(s -> s == GameOfLifeState.ALIVE ? ALIVE_CELL : DEAD_CELL),
+            DEAD_CELL);
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> step() {
+        final var newState = new ChunkedGrid2D<>(this.state.getHeight(), this.state.getWidth(), DEAD_CELL);
+        for (final var origin : this.getActiveTiles()) {
+            for (int row = origin.getX(); row < origin.getX() + TILE_SIZE; row++) {
+                for (int column = origin.getY(); column < origin.getY() + TILE_SIZE; column++) {
+                    if (this.isAliveNext(row, column)) {
+                        newState.set(row, column, ALIVE_CELL);
+                    }
+                }
+            }
+        }
+        this.state = newState;
+        return this.state;
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> getGrid() {
+        return this.state;
+    }
+
+    /**
+     * Return the origins of the allocated tiles and of the tiles around them,
+     * the only ones where a cell can be alive in the next generation.
+     */
+    private Set<Coordinates2D<Integer>> getActiveTiles() {
+        final Set<Coordinates2D<Integer>> tiles = new HashSet<>();
+        for (final var origin : this.state.getTileOrigins()) {
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    tiles.add(CoordinatesUtil.of(origin.getX() + i * TILE_SIZE, origin.getY() + j * TILE_SIZE));
+                }
+            }
+        }
+        return tiles;
+    }
+
+    private boolean isAliveNext(final int row, final int column) {
+        int aliveNeighbors = 0;
+        for (int i = row - 1; i <= row + 1; i++) {
+            for (int j = column - 1; j <= column + 1; j++) {
+                if ((i != row || j != column) && this.isAlive(i, j)) {
+                    aliveNeighbors++;
+                }
+            }
+        }
+        return aliveNeighbors == 3 || aliveNeighbors == 2 && this.isAlive(row, column);
+    }
+
+    private boolean isAlive(final int row, final int column) {
+        return this.state.get(row, column).getState() == GameOfLifeState.ALIVE;
+    }
+}
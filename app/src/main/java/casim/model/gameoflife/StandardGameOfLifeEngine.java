@@ -0,0 +1,70 @@
+package casim.model.gameoflife;
+
+import casim.model.abstraction.utils.ActiveTiles;
+import casim.model.abstraction.utils.NeighborhoodTable;
+import casim.model.abstraction.utils.RowBandExecutor;
+import casim.utils.grid.DoubleBuffer;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+import casim.utils.grid.IndexedGrid2D;
+
+/**
+ * {@link GameOfLifeEngine} that applies the {@link GameOfLifeUpdateRule} to every cell,
+ * reading the neighbors through a cursor over a precomputed {@link NeighborhoodTable}.
+ * Only the tiles that changed in the previous step, tracked by {@link ActiveTiles}, are computed,
+ * and their rows can be split into bands computed by a {@link RowBandExecutor}.
+ */
+//package-private
+class StandardGameOfLifeEngine implements GameOfLifeEngine {
+
+    private final DoubleBuffer<IndexedGrid2D<GameOfLifeCell>> buffer;
+    private final GameOfLifeUpdateRule updateRule;
+    private final NeighborhoodTable neighborhood;
+    private final RowBandExecutor executor;
+    private final ActiveTiles activeTiles;
+
+    /**
+     * Construct a new {@link StandardGameOfLifeEngine}.
+     *
+     * @param state the initial state of the grid.
+     * @param updateRule the {@link GameOfLifeUpdateRule} applied to every cell.
+     * @param parallelism the number of threads used to compute each step.
+     */
+    StandardGameOfLifeEngine(final Grid2D<GameOfLifeState> state, final GameOfLifeUpdateRule updateRule,
+            final int parallelism) {
+        this.updateRule = updateRule;
+        this.executor = new RowBandExecutor(parallelism);
+        this.buffer = new DoubleBuffer<>(
+            Grids.of(state.getHeight(), state.getWidth(), coord -> new GameOfLifeCell(state.get(coord))),
+            Grids.of(state.getHeight(), state.getWidth()));
+        this.neighborhood = NeighborhoodTable.moore(state.getHeight(), state.getWidth(), false);
+        this.activeTiles = new ActiveTiles(state.getHeight(), state.getWidth(), ActiveTiles.DEFAULT_TILE_SIZE, false);
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> step() {
+        final var state = this.buffer.getFront();
+        final var newState = this.buffer.getBack();
+
+        this.executor.forEachBand(this.activeTiles.getTileRows(), (startTileRow, endTileRow) -> {
+            final var neighbors = this.neighborhood.cursor(state);
+            this.activeTiles.forEachActiveCell(startTileRow, endTileRow, (row, column) -> {
+                final int i = state.indexOf(row, column);
+                final var cell = state.getUnchecked(i);
+                final var nextCell = this.updateRule.getNextCell(cell, neighbors.moveTo(i));
+                if (nextCell.getState() != cell.getState()) {
+                    this.activeTiles.markChanged(row, column);
+                }
+                newState.setUnchecked(i, nextCell);
+            });
+        });
+        this.activeTiles.advance();
+
+        return this.buffer.swap();
+    }
+
+    @Override
+    public Grid2D<GameOfLifeCell> getGrid() {
+        return this.buffer.getFront();
+    }
+}
@@ -0,0 +1,115 @@
+package casim.model.generations;
+
+import java.util.stream.IntStream;
+
+import casim.model.abstraction.automaton.AbstractBufferedAutomaton;
+import casim.model.abstraction.rule.TotalisticRule;
+import casim.model.abstraction.utils.ActiveTiles;
+import casim.model.abstraction.utils.NeighborhoodTable;
+import casim.model.abstraction.utils.RowBandExecutor;
+import casim.utils.grid.DoubleBuffer;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+import casim.utils.grid.IndexedGrid2D;
+
+/**
+ * Automaton that follows any rule of the Generations family with the moore neighborhood, given in one of the
+ * notations of {@link TotalisticRule}, so the Life-like rules too, as the ones with two states.
+ * The states of the cells are the numbers of the states of the rule: 0 is dead, 1 is alive
+ * and the following ones are dying.
+ * Only the tiles of the grid that changed in the previous step, tracked by {@link ActiveTiles}, are computed.
+ */
+public class Generations extends AbstractBufferedAutomaton<Integer, GenerationsCell, IndexedGrid2D<GenerationsCell>> {
+
+    private static final int ALIVE = 1;
+
+    private final TotalisticRule rule;
+    private final GenerationsCell[] cells;
+    private final NeighborhoodTable neighborhood;
+    private final RowBandExecutor executor;
+    private final ActiveTiles activeTiles;
+
+    /**
+     * Build a new {@link Generations}.
+     *
+     * @param state the initial state of the grid, with the numbers of the states of the rule.
+     * @param rule the rule, such as {@code /2/3} or {@code B3/S23}.
+     * @param wrapping true if the automaton has to wrap the grid.
+     * @throws IllegalArgumentException if the rule is not valid or a cell has a state that is not in the rule.
+     */
+    public Generations(final Grid2D<Integer> state, final String rule, final boolean wrapping) {
+        this(state, rule, wrapping, 1);
+    }
+
+    /**
+     * Build a new {@link Generations} that computes each step on several threads.
+     * The generations are the same computed by a single thread.
+     *
+     * @param state the initial state of the grid, with the numbers of the states of the rule.
+     * @param rule the rule, such as {@code /2/3} or {@code B3/S23}.
+     * @param wrapping true if the automaton has to wrap the grid.
+     * @param parallelism the number of threads used to compute each step.
+     * @throws IllegalArgumentException if the rule is not valid or a cell has a state that is not in the rule.
+     */
+    public Generations(final Grid2D<Integer> state, final String rule, final boolean wrapping, final int parallelism) {
+        this(state, TotalisticRule.parse(rule), wrapping, parallelism);
+    }
+
+    private Generations(final Grid2D<Integer> state, final TotalisticRule rule, final boolean wrapping,
+            final int parallelism) {
+        super(createBuffer(state, rule));
+        this.rule = rule;
+        this.cells = IntStream.range(0, rule.getStates()).mapToObj(GenerationsCell::new).toArray(GenerationsCell[]::new);
+        this.neighborhood = NeighborhoodTable.moore(state.getHeight(), state.getWidth(), wrapping);
+        this.executor = new RowBandExecutor(parallelism);
+        this.activeTiles = new ActiveTiles(state.getHeight(), state.getWidth(), ActiveTiles.DEFAULT_TILE_SIZE, wrapping);
+    }
+
+    /**
+     * Return the rule followed by the automaton.
+     *
+     * @return the {@link TotalisticRule} of the automaton.
+     */
+    public TotalisticRule getRule() {
+        return this.rule;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    protected void computeNextGeneration(final IndexedGrid2D<GenerationsCell> current,
+            final IndexedGrid2D<GenerationsCell> next) {
+        this.executor.forEachBand(this.activeTiles.getTileRows(), (startTileRow, endTileRow) -> {
+            final var neighbors = this.neighborhood.cursor(current);
+            this.activeTiles.forEachActiveCell(startTileRow, endTileRow, (row, column) -> {
+                final int i = current.indexOf(row, column);
+                final int state = current.getUnchecked(i).getState();
+                // The dying cells ignore their neighbors, so they are not counted.
+                final int nextState = this.rule.next(state, state <= ALIVE
+                    ? neighbors.moveTo(i).count(neighbor -> neighbor.getState() == ALIVE)
+                    : 0);
+                if (nextState != state) {
+                    this.activeTiles.markChanged(row, column);
+                }
+                next.setUnchecked(i, this.cells[nextState]);
+            });
+        });
+        this.activeTiles.advance();
+    }
+
+    private static DoubleBuffer<IndexedGrid2D<GenerationsCell>> createBuffer(final Grid2D<Integer> state,
+            final TotalisticRule rule) {
+        return new DoubleBuffer<>(
+            Grids.of(state.getHeight(), state.getWidth(), coord -> {
+                final int value = state.get(coord);
+                if (value < 0 || value >= rule.getStates()) {
+                    throw new IllegalArgumentException("The rule " + rule + " has no state " + value);
+                }
+                return new GenerationsCell(value);
+            }),
+            Grids.of(state.getHeight(), state.getWidth()));
+    }
+}
@@ -0,0 +1,15 @@
+package casim.model.generations;
+
+import casim.model.abstraction.cell.AbstractCell;
+
+/**
+ * A cell of the {@link Generations} automaton, whose state is the number of a state of its rule.
+ */
+//Package-private
+class GenerationsCell extends AbstractCell<Integer> {
+
+    //Package-private
+    GenerationsCell(final int state) {
+        super(state);
+    }
+}
@@ -8,12 +8,16 @@ import casim.model.abstraction.automaton.AbstractAutomaton;
 import casim.utils.Direction;
 import casim.utils.coordinate.Coordinates2D;
 import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.grid.ChunkedGrid2D;
 import casim.utils.grid.Grid2D;
-import casim.utils.grid.WrappingGrid;
+import casim.utils.grid.Grids;
+import casim.utils.grid.HaloWrappingGrid;
 
 /**
  * Langton's Ant automaton, composed of a {@link Grid2D} of
  * {@link LangtonsAntCell}s and a list of {@link Ant}.
+ * The cells keep only their {@link LangtonsAntCellState}, a byte per cell when the grid is bounded,
+ * and the grid of {@link LangtonsAntCell}s is a view over them.
  */
 public class LangtonsAnt extends AbstractAutomaton<LangtonsAntCellState, LangtonsAntCell> {
     /**
@@ -24,8 +28,11 @@ public class LangtonsAnt extends AbstractAutomaton<LangtonsAntCellState, Langton
      * Maximum number of ants in the simulation.
      */
     public static final int MAX_ANTS = 20;
+    private static final LangtonsAntCell ON_CELL = new LangtonsAntCell(LangtonsAntCellState.ON);
+    private static final LangtonsAntCell OFF_CELL = new LangtonsAntCell(LangtonsAntCellState.OFF);
 
     private final List<Ant> ants = new ArrayList<>();
+    private final Grid2D<LangtonsAntCellState> cells;
     private final Grid2D<LangtonsAntCell> state;
     private final Random rng = new Random();
 
@@ -38,8 +45,28 @@ public class LangtonsAnt extends AbstractAutomaton<LangtonsAntCellState, Langton
      * representing the initial state of the Automaton.
      */
     public LangtonsAnt(final Grid2D<LangtonsAntCellState> state, final boolean wrapping) {
-        final Grid2D<LangtonsAntCell> tmpState = state.map(x -> new LangtonsAntCell(x));
-        this.state = wrapping ? new WrappingGrid<>(tmpState) : tmpState;
+        this(state, wrapping, false);
+    }
+
+    /**
+     * Constructs a new Langont's Ant automaton.
+     * 
+     * @param state a {@link Grid2D} of {@link LangtonsAntCellState}
+     *          representing the initial state of the Automaton.
+     * @param wrapping if true ants will warp to opposite side of
+     *              the grid instead of dying when reaching edge.
+     * @param unbounded if true the grid has no edges and ants can travel indefinitely,
+     *              the given state becomes the visible part of the grid and wrapping is ignored.
+     */
+    public LangtonsAnt(final Grid2D<LangtonsAntCellState> state, final boolean wrapping, final boolean unbounded) {
+        if (unbounded) {
+            this.cells = new ChunkedGrid2D<>(state, LangtonsAntCellState.OFF);
+        } else if (wrapping) {
+            this.cells = new HaloWrappingGrid<>(state);
+        } else {
+            this.cells = Grids.ofEnum(LangtonsAntCellState.class, state.getHeight(), state.getWidth(), state::get);
+        }
+        this.state = this.cells.view(x -> x == LangtonsAntCellState.ON ? ON_CELL : OFF_CELL);
     }
 
     /**
@@ -68,7 +95,24 @@ public class LangtonsAnt extends AbstractAutomaton<LangtonsAntCellState, Langton
      *              the grid instead of dying when reaching edge.
      */
     public LangtonsAnt(final Grid2D<LangtonsAntCellState> state, final int antNumber, final boolean wrapping) {
-        this(state, wrapping);
+        this(state, antNumber, wrapping, false);
+    }
+
+    /**
+     * Constructs a new Langton's Ant automaton.
+     * 
+     * @param state a {@link Grid2D} of {@link LangtonsAntCellState}
+     *          representing the initial state of the Automaton.
+     * @param antNumber the number of ants that will be randomly
+     *          generated and will populate the Automaton.
+     * @param wrapping if true ants will warp to opposite side of
+     *              the grid instead of dying when reaching edge.
+     * @param unbounded if true the grid has no edges and ants can travel indefinitely,
+     *              the given state becomes the visible part of the grid and wrapping is ignored.
+     */
+    public LangtonsAnt(final Grid2D<LangtonsAntCellState> state, final int antNumber, final boolean wrapping,
+            final boolean unbounded) {
+        this(state, wrapping, unbounded);
         IntStream.range(0, antNumber).forEach((x) -> this.addAnt());
     }
 
@@ -86,15 +130,15 @@ public class LangtonsAnt extends AbstractAutomaton<LangtonsAntCellState, Langton
     }
 
     private void antStep(final Ant ant) {
-        ant.turn(this.state.get(ant.getPosition()).getState());
-        this.state.set(ant.getPosition(), new LangtonsAntCell(
-                (this.state.get(ant.getPosition()).getState() == LangtonsAntCellState.OFF)
-                        ? LangtonsAntCellState.ON : LangtonsAntCellState.OFF));
+        final LangtonsAntCellState cell = this.cells.get(ant.getPosition());
+        ant.turn(cell);
+        this.cells.set(ant.getPosition(),
+                cell == LangtonsAntCellState.OFF ? LangtonsAntCellState.ON : LangtonsAntCellState.OFF);
         ant.move();
     }
 
     private void removeAnts() {
-        this.ants.removeIf(x -> !this.state.isCoordValid(x.getPosition()));
+        this.ants.removeIf(x -> !this.cells.isCoordValid(x.getPosition()));
     }
 
     /**
@@ -107,7 +151,7 @@ public class LangtonsAnt extends AbstractAutomaton<LangtonsAntCellState, Langton
      * False otherwise.
      */
     private boolean addAnt(final Direction direction, final Coordinates2D<Integer> position) {
-        if (this.state.isCoordValid(position)) {
+        if (this.cells.isCoordValid(position)) {
             this.ants.add(new Ant(direction, position));
             return true;
         }
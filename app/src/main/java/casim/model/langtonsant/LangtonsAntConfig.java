@@ -8,6 +8,7 @@ import casim.utils.automaton.config.WrappingConfig;
 public class LangtonsAntConfig extends WrappingConfig {
 
     private final int antNumber;
+    private final boolean unbounded;
 
     /**
      * Constucts a new {@link LangtonsAntConfig}
@@ -21,8 +22,25 @@ public class LangtonsAntConfig extends WrappingConfig {
      */
     public LangtonsAntConfig(
             final int rows, final int cols, final boolean isAutomatic, final boolean wrapping, final int antNumber) {
+        this(rows, cols, isAutomatic, wrapping, antNumber, false);
+    }
+
+    /**
+     * Constucts a new {@link LangtonsAntConfig}
+     * with given values.
+     * 
+     * @param rows the number of rows of the grid.
+     * @param cols the number of columns of the grid.
+     * @param isAutomatic true if the automaton has to run in automatic configuration.
+     * @param wrapping true if the grid is a wrapping grid.
+     * @param antNumber the number of ants in the automaton.
+     * @param unbounded true if the grid has no edges, the rows and columns define only its visible part.
+     */
+    public LangtonsAntConfig(final int rows, final int cols, final boolean isAutomatic, final boolean wrapping,
+            final int antNumber, final boolean unbounded) {
         super(rows, cols, isAutomatic, wrapping);
         this.antNumber = antNumber;
+        this.unbounded = unbounded;
     }
 
     /**
@@ -35,4 +53,14 @@ public class LangtonsAntConfig extends WrappingConfig {
     public int getAntNumber() {
         return this.antNumber;
     }
+
+    /**
+     * Returns the unbounded value of the config.
+     * 
+     * @return true if the grid has no edges,
+     *          false otherwise.
+     */
+    public boolean isUnbounded() {
+        return this.unbounded;
+    }
 }
@@ -0,0 +1,55 @@
+package casim.model.largerthanlife;
+
+import casim.model.abstraction.automaton.AbstractBufferedAutomaton;
+import casim.model.abstraction.utils.SummedAreaNeighborhood;
+import casim.utils.grid.DoubleBuffer;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+import casim.utils.grid.IndexedGrid2D;
+
+/**
+ * Larger than Life automaton, a Life-like automaton with neighborhoods of any range.
+ * The alive neighbors are counted by a {@link SummedAreaNeighborhood} rebuilt once per step,
+ * so the cost of a step does not depend on the range.
+ */
+public class LargerThanLife extends AbstractBufferedAutomaton<LargerThanLifeCellState, LargerThanLifeCell,
+        IndexedGrid2D<LargerThanLifeCell>> {
+
+    private final SummedAreaNeighborhood<LargerThanLifeCell> neighborhood;
+    private final LargerThanLifeUpdateRule updateRule;
+
+    /**
+     * Build a new {@link LargerThanLife}.
+     *
+     * @param state the initial state of the grid.
+     * @param rule the rule, in the notation of {@link LargerThanLifeRule#parse(String)}.
+     * @param wrapping true if the automaton has to wrap the grid.
+     * @throws IllegalArgumentException if the rule is not valid.
+     */
+    public LargerThanLife(final Grid2D<LargerThanLifeCellState> state, final String rule, final boolean wrapping) {
+        super(new DoubleBuffer<>(
+            Grids.of(state.getHeight(), state.getWidth(), coord -> new LargerThanLifeCell(state.get(coord))),
+            Grids.of(state.getHeight(), state.getWidth())));
+        final var parsed = LargerThanLifeRule.parse(rule);
+        this.neighborhood = new SummedAreaNeighborhood<>(state.getHeight(), state.getWidth(), parsed.getRange(),
+            parsed.getShape(), wrapping, cell -> cell.getState() == LargerThanLifeCellState.ALIVE);
+        this.updateRule = new LargerThanLifeUpdateRule(parsed, this.neighborhood);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    protected void computeNextGeneration(final IndexedGrid2D<LargerThanLifeCell> current,
+            final IndexedGrid2D<LargerThanLifeCell> next) {
+        this.neighborhood.update(current);
+        for (int row = 0; row < current.getHeight(); row++) {
+            for (int column = 0; column < current.getWidth(); column++) {
+                final int i = current.indexOf(row, column);
+                next.setUnchecked(i, this.updateRule.getNextCell(current.getUnchecked(i), row, column));
+            }
+        }
+    }
+}
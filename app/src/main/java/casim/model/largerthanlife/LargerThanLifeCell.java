@@ -0,0 +1,15 @@
+package casim.model.largerthanlife;
+
+import casim.model.abstraction.cell.AbstractCell;
+
+/**
+ * A cell of the {@link LargerThanLife} automaton.
+ */
+//Package-private
+class LargerThanLifeCell extends AbstractCell<LargerThanLifeCellState> {
+
+    //Package-private
+    LargerThanLifeCell(final LargerThanLifeCellState state) {
+        super(state);
+    }
+}
@@ -0,0 +1,15 @@
+package casim.model.largerthanlife;
+
+/**
+ * The enumeration which describes the state of a Larger than Life cell.
+ */
+public enum LargerThanLifeCellState {
+    /**
+     * The state of the cell when is alive.
+     */
+    ALIVE,
+    /**
+     * The state of the cell when is dead.
+     */
+    DEAD;
+}
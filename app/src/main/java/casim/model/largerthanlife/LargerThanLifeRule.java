@@ -0,0 +1,140 @@
+package casim.model.largerthanlife;
+
+import java.util.Locale;
+
+import casim.model.abstraction.utils.NeighborhoodShape;
+
+/**
+ * Rule of a Larger than Life automaton: a Life-like rule whose neighborhood has any range, where a cell
+ * is born or survives when the number of its alive neighbors is in an interval.
+ * The rule is parsed from the notation {@code R5,C0,M1,S34..58,B34..45,NM}, with:
+ * <ul>
+ * <li>{@code R}: the range of the neighborhood;</li>
+ * <li>{@code C}: the number of states, only 0 and 2 are supported and both mean two states;</li>
+ * <li>{@code M}: 1 if the cell counts itself among its neighbors, 0 otherwise;</li>
+ * <li>{@code S} and {@code B}: the intervals of the counts for survival and birth;</li>
+ * <li>{@code N}: the shape of the neighborhood, {@code M} for moore and {@code N} for von Neumann's.</li>
+ * </ul>
+ */
+public final class LargerThanLifeRule {
+
+    private static final String INVALID_RULE = "Invalid rule: ";
+    private static final String RANGE_SEPARATOR = "..";
+    private static final int PARTS = 6;
+
+    private final String notation;
+    private final int range;
+    private final boolean middle;
+    private final int minSurvival;
+    private final int maxSurvival;
+    private final int minBirth;
+    private final int maxBirth;
+    private final NeighborhoodShape shape;
+
+    private LargerThanLifeRule(final String notation, final int range, final boolean middle, final int[] survival,
+            final int[] birth, final NeighborhoodShape shape) {
+        this.notation = notation;
+        this.range = range;
+        this.middle = middle;
+        this.minSurvival = survival[0];
+        this.maxSurvival = survival[1];
+        this.minBirth = birth[0];
+        this.maxBirth = birth[1];
+        this.shape = shape;
+    }
+
+    /**
+     * Parse a rule written in the Larger than Life notation.
+     *
+     * @param rule the rule, such as {@code R5,C0,M1,S34..58,B34..45,NM}.
+     * @return the parsed {@link LargerThanLifeRule}.
+     * @throws IllegalArgumentException if the rule is not valid.
+     */
+    public static LargerThanLifeRule parse(final String rule) {
+        final String[] parts = rule.trim().toUpperCase(Locale.ROOT).split(",", -1);
+        if (parts.length != PARTS || !parts[0].startsWith("R") || !parts[1].startsWith("C")
+                || !parts[2].startsWith("M") || !parts[3].startsWith("S") || !parts[4].startsWith("B")
+                || !parts[5].startsWith("N")) {
+            throw new IllegalArgumentException(INVALID_RULE + rule);
+        }
+        final int range = parseInt(parts[0].substring(1), rule);
+        final int states = parseInt(parts[1].substring(1), rule);
+        final int middle = parseInt(parts[2].substring(1), rule);
+        if (range < 1 || states != 0 && states != 2 || middle != 0 && middle != 1) {
+            throw new IllegalArgumentException(INVALID_RULE + rule);
+        }
+        final NeighborhoodShape shape;
+        switch (parts[5].substring(1)) {
+            case "M":
+                shape = NeighborhoodShape.MOORE;
+                break;
+            case "N":
+                shape = NeighborhoodShape.VON_NEUMANN;
+                break;
+            default:
+                throw new IllegalArgumentException(INVALID_RULE + rule);
+        }
+        return new LargerThanLifeRule(rule, range, middle == 1, parseInterval(parts[3].substring(1), rule),
+            parseInterval(parts[4].substring(1), rule), shape);
+    }
+
+    /**
+     * Return the range of the neighborhood.
+     *
+     * @return the range.
+     */
+    public int getRange() {
+        return this.range;
+    }
+
+    /**
+     * Return the shape of the neighborhood.
+     *
+     * @return the {@link NeighborhoodShape}.
+     */
+    public NeighborhoodShape getShape() {
+        return this.shape;
+    }
+
+    /**
+     * Return whether a cell is alive in the next generation.
+     *
+     * @param alive true if the cell is alive.
+     * @param aliveNeighbors the number of alive neighbors of the cell, not counting the cell itself.
+     * @return true if the cell is alive in the next generation.
+     */
+    public boolean isAliveNext(final boolean alive, final int aliveNeighbors) {
+        final int count = this.middle && alive ? aliveNeighbors + 1 : aliveNeighbors;
+        return alive ? count >= this.minSurvival && count <= this.maxSurvival
+            : count >= this.minBirth && count <= this.maxBirth;
+    }
+
+    /**
+     * Return the rule as it was parsed.
+     */
+    @Override
+    public String toString() {
+        return this.notation;
+    }
+
+    private static int[] parseInterval(final String interval, final String rule) {
+        final int separator = interval.indexOf(RANGE_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException(INVALID_RULE + rule);
+        }
+        final int min = parseInt(interval.substring(0, separator), rule);
+        final int max = parseInt(interval.substring(separator + RANGE_SEPARATOR.length()), rule);
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException(INVALID_RULE + rule);
+        }
+        return new int[] {min, max};
+    }
+
+    private static int parseInt(final String value, final String rule) {
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_RULE + rule, e);
+        }
+    }
+}
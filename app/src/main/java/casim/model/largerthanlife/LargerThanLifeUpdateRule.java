@@ -0,0 +1,52 @@
+package casim.model.largerthanlife;
+
+import casim.model.abstraction.rule.AbstractCountingUpdateRule;
+import casim.model.abstraction.utils.SummedAreaNeighborhood;
+import casim.utils.coordinate.Coordinates2D;
+
+/**
+ * Larger than Life's {@link casim.model.abstraction.rule.UpdateRule} implementation,
+ * that counts the neighbors through a {@link SummedAreaNeighborhood}.
+ */
+//package-private
+class LargerThanLifeUpdateRule extends AbstractCountingUpdateRule<Coordinates2D<Integer>, LargerThanLifeCell> {
+
+    private static final LargerThanLifeCell ALIVE_CELL = new LargerThanLifeCell(LargerThanLifeCellState.ALIVE);
+    private static final LargerThanLifeCell DEAD_CELL = new LargerThanLifeCell(LargerThanLifeCellState.DEAD);
+
+    private final LargerThanLifeRule rule;
+    private final SummedAreaNeighborhood<LargerThanLifeCell> neighborhood;
+
+    /**
+     * Construct a new {@link LargerThanLifeUpdateRule}.
+     *
+     * @param rule the {@link LargerThanLifeRule} to follow.
+     * @param neighborhood the {@link SummedAreaNeighborhood} that counts the alive neighbors,
+     *      it must be updated with the current generation before the cells are updated.
+     */
+    LargerThanLifeUpdateRule(final LargerThanLifeRule rule,
+            final SummedAreaNeighborhood<LargerThanLifeCell> neighborhood) {
+        super(neighborhood);
+        this.rule = rule;
+        this.neighborhood = neighborhood;
+    }
+
+    /**
+     * Return the next cell, reading the number of its alive neighbors from the summed-area table
+     * by position, without building any pair or coordinate.
+     *
+     * @param cell the cell to update.
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @return the updated cell.
+     */
+    LargerThanLifeCell getNextCell(final LargerThanLifeCell cell, final int row, final int column) {
+        return this.nextCell(cell, this.neighborhood.count(row, column));
+    }
+
+    @Override
+    protected LargerThanLifeCell nextCell(final LargerThanLifeCell cell, final int neighbors) {
+        return this.rule.isAliveNext(cell.getState() == LargerThanLifeCellState.ALIVE, neighbors)
+            ? ALIVE_CELL : DEAD_CELL;
+    }
+}
@@ -0,0 +1,184 @@
+package casim.model.rule110;
+
+import java.util.Arrays;
+
+/**
+ * Engine of the one dimensional elementary automata, that follows any of the 256 Wolfram rules.
+ * The row is packed in an array of longs, the column c being the bit c % 64 of the word c / 64,
+ * and every step computes 64 cells at once with shifts and bitwise operations.
+ * The cells outside the row are always dead.
+ * <p>
+ * In the Wolfram numbering the next state of a cell is the bit of the rule at index
+ * 4 * left + 2 * center + right, where left is the cell at the previous column.
+ * </p>
+ */
+public final class ElementaryAutomatonEngine {
+
+    /**
+     * The number of the Wolfram rules.
+     */
+    public static final int RULES = 256;
+    private static final int WORD_BITS = Long.SIZE;
+    private static final int WORD_SHIFT = Integer.numberOfTrailingZeros(WORD_BITS);
+    private static final int LAST_BIT = WORD_BITS - 1;
+    private static final int PATTERNS = 8;
+    private static final int LEFT_BIT = 4;
+    private static final int CENTER_BIT = 2;
+
+    private final int rule;
+    private int width;
+    private long lastWordMask;
+    private long[] row;
+    private long[] next;
+
+    /**
+     * Construct a new {@link ElementaryAutomatonEngine} with all the cells dead.
+     *
+     * @param rule the Wolfram rule, from 0 to 255.
+     * @param width the number of cells of the row.
+     * @throws IllegalArgumentException if the rule or the width are not valid.
+     */
+    public ElementaryAutomatonEngine(final int rule, final int width) {
+        if (rule < 0 || rule >= RULES) {
+            throw new IllegalArgumentException("Invalid rule: " + rule);
+        }
+        if (width <= 0) {
+            throw new IllegalArgumentException("The width must be positive: " + width);
+        }
+        this.rule = rule;
+        this.row = new long[0];
+        this.grow(width);
+    }
+
+    /**
+     * Widen the row, adding dead cells after the last one.
+     *
+     * @param newWidth the new number of cells of the row.
+     * @throws IllegalArgumentException if the new width is smaller than the current one.
+     */
+    public void grow(final int newWidth) {
+        if (newWidth < this.width) {
+            throw new IllegalArgumentException("The row can not shrink: " + newWidth);
+        }
+        this.width = newWidth;
+        final int bits = newWidth & LAST_BIT;
+        this.lastWordMask = bits == 0 ? -1L : (1L << bits) - 1;
+        this.row = Arrays.copyOf(this.row, (newWidth + LAST_BIT) >>> WORD_SHIFT);
+        this.next = new long[this.row.length];
+    }
+
+    /**
+     * Return the rule that gives the same evolution of the given one on the mirrored row,
+     * so that the left and the right neighbors are swapped.
+     *
+     * @param rule the Wolfram rule, from 0 to 255.
+     * @return the mirrored rule.
+     */
+    public static int mirror(final int rule) {
+        int mirrored = 0;
+        for (int pattern = 0; pattern < PATTERNS; pattern++) {
+            final int swapped = pattern & CENTER_BIT | (pattern & 1) * LEFT_BIT | (pattern & LEFT_BIT) / LEFT_BIT;
+            mirrored |= (rule >>> pattern & 1) << swapped;
+        }
+        return mirrored;
+    }
+
+    /**
+     * Compute the next generation of the row.
+     */
+    public void step() {
+        final int last = this.row.length - 1;
+        for (int i = 0; i <= last; i++) {
+            final long center = this.row[i];
+            final long left = center << 1 | (i > 0 ? this.row[i - 1] >>> LAST_BIT : 0);
+            final long right = center >>> 1 | (i < last ? this.row[i + 1] << LAST_BIT : 0);
+            long result = 0;
+            for (int pattern = 0; pattern < PATTERNS; pattern++) {
+                if ((this.rule >>> pattern & 1) != 0) {
+                    result |= ((pattern & LEFT_BIT) != 0 ? left : ~left)
+                        & ((pattern & CENTER_BIT) != 0 ? center : ~center)
+                        & ((pattern & 1) != 0 ? right : ~right);
+                }
+            }
+            this.next[i] = result;
+        }
+        this.next[last] &= this.lastWordMask;
+        final long[] previous = this.row;
+        this.row = this.next;
+        this.next = previous;
+    }
+
+    /**
+     * Return the state of a cell.
+     *
+     * @param column the column of the cell.
+     * @return true if the cell is alive.
+     * @throws IndexOutOfBoundsException if the column is not inside the row.
+     */
+    public boolean isAlive(final int column) {
+        this.checkColumn(column);
+        return (this.row[column >>> WORD_SHIFT] >>> column & 1) != 0;
+    }
+
+    /**
+     * Set the state of a cell.
+     *
+     * @param column the column of the cell.
+     * @param alive true if the cell has to be alive.
+     * @throws IndexOutOfBoundsException if the column is not inside the row.
+     */
+    public void set(final int column, final boolean alive) {
+        this.checkColumn(column);
+        if (alive) {
+            this.row[column >>> WORD_SHIFT] |= 1L << column;
+        } else {
+            this.row[column >>> WORD_SHIFT] &= ~(1L << column);
+        }
+    }
+
+    /**
+     * Return a copy of the packed row.
+     *
+     * @return the words of the row, the column c being the bit c % 64 of the word c / 64.
+     */
+    public long[] getWords() {
+        return Arrays.copyOf(this.row, this.row.length);
+    }
+
+    /**
+     * Return the number of alive cells of the row.
+     *
+     * @return the number of alive cells.
+     */
+    public int getPopulation() {
+        int population = 0;
+        for (final long word : this.row) {
+            population += Long.bitCount(word);
+        }
+        return population;
+    }
+
+    /**
+     * Return the number of cells of the row.
+     *
+     * @return the width of the row.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Return the Wolfram rule of the engine.
+     *
+     * @return the rule, from 0 to 255.
+     */
+    public int getRule() {
+        return this.rule;
+    }
+
+    private void checkColumn(final int column) {
+        if (column < 0 || column >= this.width) {
+            throw new IndexOutOfBoundsException("Size: " + this.width + " Column: " + column);
+        }
+    }
+}
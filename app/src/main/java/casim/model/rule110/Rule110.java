@@ -1,59 +1,78 @@
 package casim.model.rule110;
 
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 import casim.model.abstraction.automaton.AbstractAutomaton;
 import casim.utils.grid.Grid2D;
-import casim.utils.grid.Grid2DImpl;
-import casim.utils.grid.RowGrid;
+import casim.utils.grid.RingBufferGrid2D;
+import casim.utils.grid.RowSpan;
 import casim.utils.range.Ranges;
 
 /**
- * Rule 110 automaton, composed of a {@link RowGrid} of {@link Rule110Cell}.
+ * Rule 110 automaton, shown in a {@link RingBufferGrid2D} of {@link Rule110Cell} where every row is a generation.
+ * A bounded automaton stops when the grid is full and its row is clipped by the right edge of the grid.
+ * An unbounded automaton never stops: once the grid is full it scrolls, keeping only the last generations,
+ * and its row widens as the pattern grows, so the grid only shows the leftmost part of it.
+ * The memory used by the grid does not depend on the number of generations, while the row
+ * takes one bit for every cell reached by the pattern.
  */
 public class Rule110 extends AbstractAutomaton<Rule110CellState, Rule110Cell> {
-    private static final Map<Integer, Rule110CellState> UPDATE_MAP = Map.of(
-        0, Rule110CellState.DEAD,
-        1, Rule110CellState.ALIVE,
-        2, Rule110CellState.ALIVE,
-        3, Rule110CellState.ALIVE,
-        4, Rule110CellState.DEAD,
-        5, Rule110CellState.ALIVE,
-        6, Rule110CellState.ALIVE,
-        7, Rule110CellState.DEAD
-    );
+    /*
+     * The rows are drawn mirrored, so that the pattern grows from the left edge of the grid:
+     * the engine follows the mirror of rule 110.
+     */
+    private static final int RULE = ElementaryAutomatonEngine.mirror(110);
+    private static final Rule110Cell ALIVE_CELL = new Rule110Cell(Rule110CellState.ALIVE);
+    private static final Rule110Cell DEAD_CELL = new Rule110Cell(Rule110CellState.DEAD);
 
-    private final int maxRows;
-    private final RowGrid<Rule110Cell> grid;
+    private final RingBufferGrid2D<Rule110Cell> grid;
+    private final ElementaryAutomatonEngine engine;
+    private final boolean unbounded;
     private int last;
 
     /**
-     * Costructs a new Rule110 automaton.
+     * Costructs a new bounded Rule110 automaton on a square grid.
      * 
      * @param maxRows rows' number of the grid.
      */
     public Rule110(final int maxRows) {
-        this.maxRows = maxRows;
-        this.grid = new RowGrid<>(new Grid2DImpl<>(maxRows, maxRows, () -> new Rule110Cell(Rule110CellState.DEAD)));
-        this.grid.set(0, 0, new Rule110Cell(Rule110CellState.ALIVE));
+        this(maxRows, maxRows, false);
+    }
+
+    /**
+     * Costructs a new Rule110 automaton.
+     * 
+     * @param rows rows' number of the grid, that is the number of generations shown.
+     * @param columns columns' number of the grid.
+     * @param unbounded true if the automaton has to run forever on an unbounded row.
+     */
+    public Rule110(final int rows, final int columns, final boolean unbounded) {
+        this.grid = new RingBufferGrid2D<>(rows, columns, () -> DEAD_CELL);
+        this.grid.set(0, 0, ALIVE_CELL);
+        this.engine = new ElementaryAutomatonEngine(RULE, columns);
+        this.engine.set(0, true);
+        this.unbounded = unbounded;
         this.last = 1;
     }
 
     @Override
     public boolean hasNext() {
-        return this.last < this.maxRows;
+        return this.unbounded || this.last < this.grid.getHeight();
     }
 
     @Override
     protected Grid2D<Rule110Cell> doStep() {
-        final var current = this.grid.getRow(this.last - 1);
-        final var newRow = Ranges.of(0, current.size()).stream()
-            .map(index -> getNewCell(index, current))
-            .collect(Collectors.toList());
-        this.grid.setRow(this.last, newRow);
-        this.last++;
+        // The pattern grows by at most one cell per generation, so it can only leave the row through its last cell.
+        if (this.unbounded && this.engine.isAlive(this.engine.getWidth() - 1)) {
+            this.engine.grow(this.engine.getWidth() * 2);
+        }
+        this.engine.step();
+        final RowSpan<Rule110Cell> next;
+        if (this.last < this.grid.getHeight()) {
+            next = this.grid.getRowSpan(this.last);
+            this.last++;
+        } else {
+            next = this.grid.scroll();
+        }
+        Ranges.of(0, next.size()).forEachInt(index -> next.set(index, this.engine.isAlive(index) ? ALIVE_CELL : DEAD_CELL));
         return this.grid;
     }
 
@@ -61,31 +80,4 @@ public class Rule110 extends AbstractAutomaton<Rule110CellState, Rule110Cell> {
     public Grid2D<Rule110Cell> getGrid() {
         return this.grid;
     }
-
-    /**
-     * Method for take the value of the neighbours of a {@link Rule110Cell}.
-     * 
-     * @param left value of the left {@link Rule110Cell}.
-     * @param center value of the {@link Rule110Cell} we are analyzing.
-     * @param right value of the right {@link Rule110Cell}.
-     * @return the base number 10 represented by the 3 bits.
-     */
-    private int getValueFromNeighbours(final Rule110CellState left, final Rule110CellState center, final Rule110CellState right) {
-        return left.getValue() + 2 * center.getValue() + 4 * right.getValue();
-    }
-
-    /**
-     * Method that update the {@link Rule110Cell} we are analyzing.
-     * 
-     * @param index of the {@link Rule110Cell} we are analyzing.
-     * @param row current row.
-     * @return the updated {@link Rule110Cell}.
-     */
-    private Rule110Cell getNewCell(final int index, final List<Rule110Cell> row) {
-        final int value = this.getValueFromNeighbours(
-            index == 0 ? Rule110CellState.DEAD : row.get(index - 1).getState(),
-            row.get(index).getState(),
-            index == row.size() - 1 ? Rule110CellState.DEAD : row.get(index + 1).getState());
-        return new Rule110Cell(UPDATE_MAP.get(value));
-    }
 }
@@ -5,7 +5,7 @@ import casim.model.abstraction.automaton.AbstractAutomaton;
 import casim.model.abstraction.utils.NeighborsFunctions;
 import casim.utils.coordinate.CoordinatesUtil;
 import casim.utils.grid.Grid2D;
-import casim.utils.range.Ranges;
+import casim.utils.grid.GridUtils;
 
 /**
  * Predators and Preys automaton.
@@ -16,6 +16,7 @@ public class Wator extends AbstractAutomaton<WatorCellState, WatorCell> {
 
     private final Grid2D<WatorCell> state;
     private final WatorUpdateRule updateRule = new WatorUpdateRule(NeighborsFunctions::neighbors2DFunction);
+    private final WatorUpdateRule interiorUpdateRule = new WatorUpdateRule(NeighborsFunctions::interiorNeighbors2DFunction);
 
     /**
      * Builds a new {@link Wator} automaton with initial state from input.
@@ -29,23 +30,26 @@ public class Wator extends AbstractAutomaton<WatorCellState, WatorCell> {
 
     @Override
     public boolean hasNext() {
-        return this.state.stream()
+        return this.cellStream()
                 .anyMatch(x -> !x.getState().equals(WatorCellState.DEAD));
     }
 
     @Override
     protected Grid2D<WatorCell> doStep() {
-        for (final var x : Ranges.of(0, this.state.getHeight())) {
-            for (final var y : Ranges.of(0, this.state.getWidth())) {
-                final var coord = CoordinatesUtil.of(x, y);
-                final var cellPair = Pair.of(coord, this.state.get(coord));
-                this.state.set(coord, this.updateRule.getNextCell(cellPair, this.state));
-            }
-        }
+        // The cells are updated in place, so the split must keep the row-major order of the visit.
+        GridUtils.forEachCell(this.state.getHeight(), this.state.getWidth(), 1,
+            (x, y) -> this.updateCell(x, y, this.interiorUpdateRule),
+            (x, y) -> this.updateCell(x, y, this.updateRule));
         this.state.stream().forEach(WatorCell::resetMovement);
         return this.state;
     }
 
+    private void updateCell(final int x, final int y, final WatorUpdateRule rule) {
+        final var coord = CoordinatesUtil.of(x, y);
+        final var cellPair = Pair.of(coord, this.state.get(coord));
+        this.state.set(coord, rule.getNextCell(cellPair, this.state));
+    }
+
     @Override
     public Grid2D<WatorCell> getGrid() {
         return this.state;
@@ -7,8 +7,8 @@ import casim.utils.ViewUtils;
 import casim.utils.coordinate.Coordinates2D;
 import casim.utils.coordinate.CoordinatesUtil;
 import casim.utils.grid.Grid2D;
-import casim.utils.grid.Grid2DImpl;
 import casim.utils.grid.GridUtils;
+import casim.utils.grid.Grids;
 import casim.utils.range.Ranges;
 import javafx.beans.value.ChangeListener;
 import javafx.scene.canvas.Canvas;
@@ -49,7 +49,7 @@ public class CanvasGridImpl extends Canvas implements CanvasGrid {
         this.separatorColor = separatorColor;
         this.separatorWidth = separatorWidth;
         this.separatorOffset = separatorOffset;
-        this.cells = new Grid2DImpl<>(rows, columns);
+        this.cells = Grids.of(rows, columns);
         this.init();
     }
 
@@ -151,10 +151,15 @@ public class CanvasGridImpl extends Canvas implements CanvasGrid {
         }
         graphics.setStroke(this.separatorColor);
         graphics.setLineWidth(this.separatorWidth);
-        Ranges.of(0.0, this.width, this.getCellSize()).stream().forEach(
-            x -> graphics.strokeLine(x + this.separatorOffset, 0, x + this.separatorOffset, height));
-        Ranges.of(0.0, this.height, this.getCellSize()).stream().forEach(
-            y -> graphics.strokeLine(0, y + this.separatorOffset, width, y + this.separatorOffset));
+        final double cellSize = this.getCellSize();
+        Ranges.of(0, (int) Math.ceil(this.width / cellSize)).forEachInt(i -> {
+            final double x = i * cellSize + this.separatorOffset;
+            graphics.strokeLine(x, 0, x, height);
+        });
+        Ranges.of(0, (int) Math.ceil(this.height / cellSize)).forEachInt(i -> {
+            final double y = i * cellSize + this.separatorOffset;
+            graphics.strokeLine(0, y, width, y);
+        });
     }
 
     private double getNewPixelSize(final double width, final double height) {
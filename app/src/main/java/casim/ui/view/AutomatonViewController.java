@@ -62,7 +62,7 @@ public class AutomatonViewController<T> {
         this.controller = controller;
         this.grid = grid;
         this.colorMapper = colorMapper;
-        this.grid.setCells(this.controller.getGrid().map(this.colorMapper::toColor));
+        this.grid.setCells(this.controller.getGrid().view(this.colorMapper::toColor));
     }
 
     /**
@@ -125,7 +125,7 @@ public class AutomatonViewController<T> {
     }
 
     private void setCellsAndDraw(final Grid2D<T> state) {
-        this.grid.setCells(state.map(this.colorMapper::toColor));
+        this.grid.setCells(state.view(this.colorMapper::toColor));
         Platform.runLater(() -> this.grid.draw()); 
     }
 
@@ -4,11 +4,15 @@ import casim.model.bryansbrain.BryansBrain;
 import casim.model.codi.CoDi;
 import casim.model.codi.CoDiConfig;
 import casim.model.gameoflife.GameOfLife;
+import casim.model.gameoflife.GameOfLifeEngineType;
+import casim.model.generations.Generations;
 import casim.model.langtonsant.LangtonsAnt;
 import casim.model.langtonsant.LangtonsAntConfig;
+import casim.model.largerthanlife.LargerThanLife;
 import casim.model.rule110.Rule110;
 import casim.model.wator.Wator;
 import casim.utils.automaton.config.BaseConfig;
+import casim.utils.automaton.config.RuleConfig;
 import casim.utils.automaton.config.WrappingConfig;
 
 /**
@@ -62,4 +66,51 @@ public interface AutomatonFactory {
      * @return a new {@link GameOfLife} automaton.
      */
     GameOfLife getGameOfLife(WrappingConfig config);
+
+    /**
+     * Returns a new {@link GameOfLife} automaton that uses the given engine.
+     * 
+     * @param config the {@link WrappingConfig} containing the automaton's configuration values.
+     * @param engineType the {@link GameOfLifeEngineType} used to compute the generations.
+     * @return a new {@link GameOfLife} automaton.
+     */
+    GameOfLife getGameOfLife(WrappingConfig config, GameOfLifeEngineType engineType);
+
+    /**
+     * Returns a new {@link GameOfLife} automaton that uses the {@link GameOfLifeEngineType#HASHLIFE} engine
+     * and advances of 2^stepExponent generations at every step.
+     * 
+     * @param config the {@link WrappingConfig} containing the automaton's configuration values.
+     * @param stepExponent the base two logarithm of the number of generations computed by every step.
+     * @return a new {@link GameOfLife} automaton.
+     * @throws IllegalArgumentException if the exponent is not valid.
+     */
+    GameOfLife getGameOfLife(WrappingConfig config, int stepExponent);
+
+    /**
+     * Returns a new {@link LargerThanLife} automaton with random states, that follows the rule of the config.
+     * 
+     * @param config the {@link RuleConfig} containing the automaton's configuration values.
+     * @return a new {@link LargerThanLife} automaton.
+     * @throws IllegalArgumentException if the rule is not a valid Larger than Life rule.
+     */
+    LargerThanLife getLargerThanLifeRandom(RuleConfig config);
+
+    /**
+     * Returns a new {@link GameOfLife} automaton that follows the Life-like rule of the config.
+     * 
+     * @param config the {@link RuleConfig} containing the automaton's configuration values.
+     * @return a new {@link GameOfLife} automaton.
+     * @throws IllegalArgumentException if the rule is not a valid Life-like rule.
+     */
+    GameOfLife getGameOfLife(RuleConfig config);
+
+    /**
+     * Returns a new {@link Generations} automaton with random states, that follows the rule of the config.
+     * 
+     * @param config the {@link RuleConfig} containing the automaton's configuration values.
+     * @return a new {@link Generations} automaton.
+     * @throws IllegalArgumentException if the rule is not valid.
+     */
+    Generations getGenerationsRandom(RuleConfig config);
 }
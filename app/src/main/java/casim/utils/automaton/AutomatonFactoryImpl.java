@@ -7,14 +7,19 @@ import casim.model.bryansbrain.BryansBrainCellState;
 import casim.model.codi.CoDi;
 import casim.model.codi.CoDiConfig;
 import casim.model.codi.cell.CoDiCellState;
+import casim.model.abstraction.rule.TotalisticRule;
 import casim.utils.automaton.config.BaseConfig;
+import casim.utils.automaton.config.RuleConfig;
 import casim.utils.automaton.config.WrappingConfig;
-import casim.utils.grid.Grid2DImpl;
-import casim.utils.grid.Grid3DImpl;
+import casim.utils.grid.Grids;
 import casim.model.gameoflife.GameOfLife;
+import casim.model.gameoflife.GameOfLifeEngineType;
+import casim.model.generations.Generations;
 import casim.model.langtonsant.LangtonsAnt;
 import casim.model.langtonsant.LangtonsAntCellState;
 import casim.model.langtonsant.LangtonsAntConfig;
+import casim.model.largerthanlife.LargerThanLife;
+import casim.model.largerthanlife.LargerThanLifeCellState;
 import casim.model.rule110.Rule110;
 import casim.model.wator.Wator;
 import casim.model.wator.WatorCellState;
@@ -31,30 +36,31 @@ public class AutomatonFactoryImpl implements AutomatonFactory {
     @Override
     public BryansBrain getBryansBrainRandom(final WrappingConfig config) {
         final var rand = new Random();
-        final var state = new Grid2DImpl<>(config.getRows(), config.getCols(), () -> {
+        final var state = Grids.ofEnum(BryansBrainCellState.class, config.getRows(), config.getCols(), () -> {
                 final var randValue = rand.nextInt(BryansBrainCellState.values().length);
                 return BryansBrainCellState.values()[randValue];
         });
-        return new BryansBrain(state, config.isWrapped());
+        return new BryansBrain(state, config.isWrapped(), config.getParallelism());
     }
 
     @Override
     public CoDi getCoDi(final CoDiConfig config) {
-        final var state = new Grid3DImpl<CoDiCellState>(config.getCols(), config.getRows(), config.getDepth(),
+        final var state = Grids.of(config.getCols(), config.getRows(), config.getDepth(),
                 () -> CoDiCellState.BLANK);
         return new CoDi(state);
     }
 
     @Override
     public LangtonsAnt getLangtonsAnt(final LangtonsAntConfig config) {
-        final var state = new Grid2DImpl<>(config.getRows(), config.getCols(), () -> LangtonsAntCellState.OFF);
-        return new LangtonsAnt(state, config.getAntNumber(), config.isWrapped());
+        final var state = Grids.ofEnum(LangtonsAntCellState.class, config.getRows(), config.getCols(),
+            () -> LangtonsAntCellState.OFF);
+        return new LangtonsAnt(state, config.getAntNumber(), config.isWrapped(), config.isUnbounded());
     }
 
     @Override
     public Wator getWator(final BaseConfig config) {
         final var rng = new Random();
-        final var state = new Grid2DImpl<>(config.getRows(), config.getCols(), () -> {
+        final var state = Grids.ofEnum(WatorCellState.class, config.getRows(), config.getCols(), () -> {
             final var val = rng.nextInt(MAX_CHANCE);
             if (val <= PREY_CHANCE) {
                 return WatorCellState.PREY;
@@ -73,11 +79,54 @@ public class AutomatonFactoryImpl implements AutomatonFactory {
 
     @Override
     public GameOfLife getGameOfLife(final WrappingConfig config) {
+        return this.getGameOfLife(config, GameOfLifeEngineType.STANDARD);
+    }
+
+    @Override
+    public GameOfLife getGameOfLife(final WrappingConfig config, final GameOfLifeEngineType engineType) {
+        final var rng = new Random();
+        final var state = Grids.ofEnum(GameOfLifeState.class, config.getRows(), config.getCols(), () -> {
+            final var val = rng.nextInt(GameOfLifeState.values().length);
+            return GameOfLifeState.values()[val];
+        });
+        return new GameOfLife(state, engineType, config.getParallelism());
+    }
+
+    @Override
+    public GameOfLife getGameOfLife(final WrappingConfig config, final int stepExponent) {
+        final var rng = new Random();
+        final var state = Grids.ofEnum(GameOfLifeState.class, config.getRows(), config.getCols(), () -> {
+            final var val = rng.nextInt(GameOfLifeState.values().length);
+            return GameOfLifeState.values()[val];
+        });
+        return new GameOfLife(state, stepExponent);
+    }
+
+    @Override
+    public LargerThanLife getLargerThanLifeRandom(final RuleConfig config) {
         final var rng = new Random();
-        final var state = new Grid2DImpl<>(config.getRows(), config.getCols(), () -> {
+        final var state = Grids.ofEnum(LargerThanLifeCellState.class, config.getRows(), config.getCols(), () -> {
+            final var val = rng.nextInt(LargerThanLifeCellState.values().length);
+            return LargerThanLifeCellState.values()[val];
+        });
+        return new LargerThanLife(state, config.getRule(), config.isWrapped());
+    }
+
+    @Override
+    public GameOfLife getGameOfLife(final RuleConfig config) {
+        final var rng = new Random();
+        final var state = Grids.ofEnum(GameOfLifeState.class, config.getRows(), config.getCols(), () -> {
             final var val = rng.nextInt(GameOfLifeState.values().length);
             return GameOfLifeState.values()[val];
         });
-        return new GameOfLife(state);
+        return new GameOfLife(state, config.getRule(), config.getParallelism());
+    }
+
+    @Override
+    public Generations getGenerationsRandom(final RuleConfig config) {
+        final var rng = new Random();
+        final int states = TotalisticRule.parse(config.getRule()).getStates();
+        final var state = Grids.<Integer>of(config.getRows(), config.getCols(), () -> rng.nextInt(states));
+        return new Generations(state, config.getRule(), config.isWrapped(), config.getParallelism());
     }
 }
@@ -0,0 +1,50 @@
+package casim.utils.automaton.config;
+
+/**
+ * Configuration class for the automata that follow a rule
+ * given as a string, such as a Life-like, a Generations or a Larger than Life rule.
+ */
+public class RuleConfig extends WrappingConfig {
+
+    private final String rule;
+
+    /**
+     * Constructs a {@link RuleConfig} with given values, for an automaton that runs on a single thread.
+     * 
+     * @param rows the number of rows of the grid.
+     * @param cols the number of columns of the grid.
+     * @param isAutomatic true if the automaton has to run in automatic configuration.
+     * @param wrapping true if the grid is a wrapping grid.
+     * @param rule the rule followed by the automaton.
+     */
+    public RuleConfig(final int rows, final int cols, final boolean isAutomatic, final boolean wrapping,
+            final String rule) {
+        this(rows, cols, isAutomatic, wrapping, 1, rule);
+    }
+
+    /**
+     * Constructs a {@link RuleConfig} with given values.
+     * 
+     * @param rows the number of rows of the grid.
+     * @param cols the number of columns of the grid.
+     * @param isAutomatic true if the automaton has to run in automatic configuration.
+     * @param wrapping true if the grid is a wrapping grid.
+     * @param parallelism the number of threads used to compute each step, where supported.
+     * @param rule the rule followed by the automaton.
+     * @throws IllegalArgumentException if the parallelism is not positive.
+     */
+    public RuleConfig(final int rows, final int cols, final boolean isAutomatic, final boolean wrapping,
+            final int parallelism, final String rule) {
+        super(rows, cols, isAutomatic, wrapping, parallelism);
+        this.rule = rule;
+    }
+
+    /**
+     * Returns the rule followed by the automaton.
+     * 
+     * @return the rule, in the notation of the automaton.
+     */
+    public String getRule() {
+        return this.rule;
+    }
+}
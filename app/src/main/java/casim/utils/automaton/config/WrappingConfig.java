@@ -8,9 +8,10 @@ package casim.utils.automaton.config;
 public class WrappingConfig extends BaseConfig {
 
     private final boolean wrapping;
+    private final int parallelism;
 
     /**
-     * Constructs a {@link WrappingConfig} with given values.
+     * Constructs a {@link WrappingConfig} with given values, for an automaton that runs on a single thread.
      * 
      * @param rows the number of rows of the grid.
      * @param cols the number of columns of the grid.
@@ -18,8 +19,27 @@ public class WrappingConfig extends BaseConfig {
      * @param wrapping true if the grid is a wrapping grid.
      */
     public WrappingConfig(final int rows, final int cols, final boolean isAutomatic, final boolean wrapping) {
+        this(rows, cols, isAutomatic, wrapping, 1);
+    }
+
+    /**
+     * Constructs a {@link WrappingConfig} with given values.
+     * 
+     * @param rows the number of rows of the grid.
+     * @param cols the number of columns of the grid.
+     * @param isAutomatic true if the automaton has to run in automatic configuration.
+     * @param wrapping true if the grid is a wrapping grid.
+     * @param parallelism the number of threads used to compute each step, where supported.
+     * @throws IllegalArgumentException if the parallelism is not positive.
+     */
+    public WrappingConfig(final int rows, final int cols, final boolean isAutomatic, final boolean wrapping,
+            final int parallelism) {
         super(rows, cols, isAutomatic);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be positive: " + parallelism);
+        }
         this.wrapping = wrapping;
+        this.parallelism = parallelism;
     }
 
     /**
@@ -31,4 +51,13 @@ public class WrappingConfig extends BaseConfig {
     public boolean isWrapped() {
         return this.wrapping;
     }
+
+    /**
+     * Returns the number of threads used to compute each step.
+     * 
+     * @return the parallelism level, 1 if the automaton runs on a single thread.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
 }
@@ -0,0 +1,169 @@
+package casim.utils.coordinate;
+
+import java.util.Arrays;
+
+/**
+ * Cache of the canonical {@link Coordinates2D} and {@link Coordinates3D} instances with Integer values.
+ * The cache covers the in-bounds coordinates of every registered grid size, whatever the order of the
+ * registrations, and the instances are created on their first request.
+ * The 2D table has one row for each row of the tallest registered grid, as long as the widest registered grid
+ * that has that row, so it takes the space of the union of the registered grids and not of their bounding box.
+ * The 3D table is built the same way, with one line along the depth for each row and column.
+ * The tables are replaced, never resized, so they can be read concurrently without locking: two threads
+ * requesting the same coordinate at the same time may get equal but not identical instances.
+ */
+//package-private
+final class CoordinatesCache {
+
+    private static volatile Coordinates2D<Integer>[][] table2D = newTable2D(0);
+    private static volatile Coordinates3D<Integer>[][][] table3D = newTable3D(0);
+
+    private CoordinatesCache() {
+
+    }
+
+    /**
+     * Extend the 2D cache in order to cover every coordinate of a rows x columns grid.
+     *
+     * @param rows number of rows of the grid.
+     * @param columns number of columns of the grid.
+     */
+    static void register(final int rows, final int columns) {
+        if (rows <= 0 || columns <= 0 || covers(table2D, rows, columns)) {
+            return;
+        }
+        synchronized (CoordinatesCache.class) {
+            final var current = table2D;
+            if (covers(current, rows, columns)) {
+                return;
+            }
+            final var table = Arrays.copyOf(current, Math.max(rows, current.length));
+            for (int x = 0; x < rows; x++) {
+                if (table[x] == null) {
+                    table[x] = newRow2D(columns);
+                } else if (table[x].length < columns) {
+                    table[x] = Arrays.copyOf(table[x], columns);
+                }
+            }
+            table2D = table;
+        }
+    }
+
+    /**
+     * Extend the 3D cache in order to cover every coordinate of a rows x columns x depth grid.
+     *
+     * @param rows number of rows of the grid.
+     * @param columns number of columns of the grid.
+     * @param depth depth of the grid.
+     */
+    static void register(final int rows, final int columns, final int depth) {
+        if (rows <= 0 || columns <= 0 || depth <= 0 || covers(table3D, rows, columns, depth)) {
+            return;
+        }
+        synchronized (CoordinatesCache.class) {
+            final var current = table3D;
+            if (covers(current, rows, columns, depth)) {
+                return;
+            }
+            final var table = Arrays.copyOf(current, Math.max(rows, current.length));
+            for (int x = 0; x < rows; x++) {
+                final var plane = table[x] == null
+                    ? newPlane3D(columns)
+                    : Arrays.copyOf(table[x], Math.max(columns, table[x].length));
+                for (int y = 0; y < columns; y++) {
+                    if (plane[y] == null) {
+                        plane[y] = newRow3D(depth);
+                    } else if (plane[y].length < depth) {
+                        plane[y] = Arrays.copyOf(plane[y], depth);
+                    }
+                }
+                table[x] = plane;
+            }
+            table3D = table;
+        }
+    }
+
+    /**
+     * Return the canonical {@link Coordinates2D} with the given values, or a new one if it is not cached.
+     *
+     * @param x value to be used as coordinate x.
+     * @param y value to be used as coordinate y.
+     * @return a {@link Coordinates2D} with the given values.
+     */
+    static Coordinates2D<Integer> get(final int x, final int y) {
+        final var table = table2D;
+        if (x < 0 || y < 0 || x >= table.length || y >= table[x].length) {
+            return new Coordinates2D<>(x, y);
+        }
+        Coordinates2D<Integer> coord = table[x][y];
+        if (coord == null) {
+            coord = new Coordinates2D<>(x, y);
+            table[x][y] = coord;
+        }
+        return coord;
+    }
+
+    /**
+     * Return the canonical {@link Coordinates3D} with the given values, or a new one if it is not cached.
+     *
+     * @param x value to be used as coordinate x.
+     * @param y value to be used as coordinate y.
+     * @param z value to be used as coordinate z.
+     * @return a {@link Coordinates3D} with the given values.
+     */
+    static Coordinates3D<Integer> get(final int x, final int y, final int z) {
+        final var table = table3D;
+        if (x < 0 || y < 0 || z < 0 || x >= table.length || y >= table[x].length || z >= table[x][y].length) {
+            return new Coordinates3D<>(x, y, z);
+        }
+        Coordinates3D<Integer> coord = table[x][y][z];
+        if (coord == null) {
+            coord = new Coordinates3D<>(x, y, z);
+            table[x][y][z] = coord;
+        }
+        return coord;
+    }
+
+    /**
+     * Check whether a table covers a grid. The rows of a table never get longer going down,
+     * so a grid is covered when its last row is.
+     */
+    private static boolean covers(final Coordinates2D<Integer>[][] table, final int rows, final int columns) {
+        return rows <= table.length && columns <= table[rows - 1].length;
+    }
+
+    /**
+     * Check whether a table covers a grid, as {@link #covers(Coordinates2D[][], int, int)} does,
+     * the lines along the depth never getting longer going down or right.
+     */
+    private static boolean covers(final Coordinates3D<Integer>[][][] table, final int rows, final int columns,
+            final int depth) {
+        return rows <= table.length && columns <= table[rows - 1].length
+            && depth <= table[rows - 1][columns - 1].length;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Coordinates2D<Integer>[][] newTable2D(final int rows) {
+        return new Coordinates2D[rows][];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Coordinates2D<Integer>[] newRow2D(final int columns) {
+        return new Coordinates2D[columns];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Coordinates3D<Integer>[][][] newTable3D(final int rows) {
+        return new Coordinates3D[rows][][];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Coordinates3D<Integer>[][] newPlane3D(final int columns) {
+        return new Coordinates3D[columns][];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Coordinates3D<Integer>[] newRow3D(final int depth) {
+        return new Coordinates3D[depth];
+    }
+}
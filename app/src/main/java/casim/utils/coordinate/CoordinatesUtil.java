@@ -40,9 +40,35 @@ public final class CoordinatesUtil {
      * @return a {@link Coordinates2D} with the x and y values given as arguments.
      */
     public static <T extends Number> Coordinates2D<T> of(final T x, final T y) {
+        if (x instanceof Integer && y instanceof Integer) {
+            return cast(CoordinatesCache.get((Integer) x, (Integer) y));
+        }
         return new Coordinates2D<T>(x, y);
     }
 
+    /**
+     * Register the size of a 2D grid, so that {@link #of(Number, Number)} returns canonical
+     * instances for all its in-bounds Integer {@link Coordinates2D}.
+     * 
+     * @param rows number of rows of the grid.
+     * @param columns number of columns of the grid.
+     */
+    public static void registerGridSize(final int rows, final int columns) {
+        CoordinatesCache.register(rows, columns);
+    }
+
+    /**
+     * Register the size of a 3D grid, so that {@link #of(Number, Number, Number)} returns canonical
+     * instances for all its in-bounds Integer {@link Coordinates3D}.
+     * 
+     * @param rows number of rows of the grid.
+     * @param columns number of columns of the grid.
+     * @param depth depth of the grid.
+     */
+    public static void registerGridSize(final int rows, final int columns, final int depth) {
+        CoordinatesCache.register(rows, columns, depth);
+    }
+
     /**
      * Checks if the {@link Coordinates2D} given as argument is inside the rectangle formed
      * by the {@link Coordinates2D} topLeft and bottomRight.
@@ -74,9 +100,9 @@ public final class CoordinatesUtil {
      */
     public static <T extends Number & Comparable<T>> boolean isValid(final Coordinates2D<T> coord,
             final Coordinates2D<T> bottomRight) {
-        final var coordI = CoordinatesUtil.of(coord.getX().intValue(), coord.getY().intValue());
-        final var bottomRightI = CoordinatesUtil.of(bottomRight.getX().intValue(), bottomRight.getY().intValue());
-        return isValid(coordI, CoordinatesUtil.of(0, 0), bottomRightI);
+        final int x = coord.getX().intValue();
+        final int y = coord.getY().intValue();
+        return x >= 0 && y >= 0 && x < bottomRight.getX().intValue() && y < bottomRight.getY().intValue();
     }
 
     /**
@@ -90,7 +116,9 @@ public final class CoordinatesUtil {
      */
     public static <T extends Number & Comparable<T>> boolean isValid(final Coordinates2D<T> coord, final T maxX,
             final T maxY) {
-        return isValid(coord, CoordinatesUtil.of(maxX, maxY));
+        final int x = coord.getX().intValue();
+        final int y = coord.getY().intValue();
+        return x >= 0 && y >= 0 && x < maxX.intValue() && y < maxY.intValue();
     }
 
     /**
@@ -126,6 +154,9 @@ public final class CoordinatesUtil {
      * @return a {@link Coordinates3D} with the x, y and z values given as arguments.
      */
     public static <T extends Number> Coordinates3D<T> of(final T x, final T y, final T z) {
+        if (x instanceof Integer && y instanceof Integer && z instanceof Integer) {
+            return cast(CoordinatesCache.get((Integer) x, (Integer) y, (Integer) z));
+        }
         return new Coordinates3D<T>(x, y, z);
     }
 
@@ -176,11 +207,12 @@ public final class CoordinatesUtil {
      */
     public static <T extends Number & Comparable<T>> boolean isValid(final Coordinates3D<T> coord,
             final Coordinates3D<T> bottomRight) {
-        final var coordI = CoordinatesUtil.of(coord.getX().intValue(), coord.getY().intValue(),
-                coord.getZ().intValue());
-        final var bottomRightI = CoordinatesUtil.of(bottomRight.getX().intValue(), bottomRight.getY().intValue(),
-                bottomRight.getZ().intValue());
-        return isValid(coordI, CoordinatesUtil.of(0, 0, 0), bottomRightI);
+        final int x = coord.getX().intValue();
+        final int y = coord.getY().intValue();
+        final int z = coord.getZ().intValue();
+        return x >= 0 && y >= 0 && z >= 0
+                && x < bottomRight.getX().intValue() && y < bottomRight.getY().intValue()
+                && z < bottomRight.getZ().intValue();
     }
 
     /**
@@ -195,7 +227,10 @@ public final class CoordinatesUtil {
      */
     public static <T extends Number & Comparable<T>> boolean isValid(final Coordinates3D<T> coord, final T maxX,
             final T maxY, final T maxZ) {
-        return isValid(coord, CoordinatesUtil.of(maxX, maxY, maxZ));
+        final int x = coord.getX().intValue();
+        final int y = coord.getY().intValue();
+        final int z = coord.getZ().intValue();
+        return x >= 0 && y >= 0 && z >= 0 && x < maxX.intValue() && y < maxY.intValue() && z < maxZ.intValue();
     }
 
     /**
@@ -224,4 +259,9 @@ public final class CoordinatesUtil {
     public static Coordinates3D<Integer> random(final int maxX, final int maxY, final int maxZ) {
         return CoordinatesUtil.of(RNG.nextInt(maxX), RNG.nextInt(maxY), RNG.nextInt(maxZ));
     }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Coordinates<?>> T cast(final Coordinates<?> coord) {
+        return (T) coord;
+    }
 }
@@ -0,0 +1,80 @@
+package casim.utils.coordinate;
+
+/**
+ * Utility class that encodes a 2D integer coordinate in a primitive long, so that it can be
+ * passed around without allocating a {@link Coordinates2D}.
+ * The X value is stored in the upper 32 bits and the Y value in the lower 32 bits,
+ * so every pair of int values, negative ones included, can be packed.
+ */
+public final class PackedCoordinates2D {
+
+    private static final int INT_BITS = 32;
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+
+    private PackedCoordinates2D() {
+
+    }
+
+    /**
+     * Pack the values given as arguments in a long.
+     *
+     * @param x value to be used as coordinate x.
+     * @param y value to be used as coordinate y.
+     * @return the packed coordinate.
+     */
+    public static long pack(final int x, final int y) {
+        return (long) x << INT_BITS | y & INT_MASK;
+    }
+
+    /**
+     * Get the X value of a packed coordinate.
+     *
+     * @param packed the packed coordinate.
+     * @return the X coordinate value.
+     */
+    public static int getX(final long packed) {
+        return (int) (packed >> INT_BITS);
+    }
+
+    /**
+     * Get the Y value of a packed coordinate.
+     *
+     * @param packed the packed coordinate.
+     * @return the Y coordinate value.
+     */
+    public static int getY(final long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Return the packed coordinate moved by the given offsets.
+     *
+     * @param packed the packed coordinate.
+     * @param dx the offset to be added to the X value.
+     * @param dy the offset to be added to the Y value.
+     * @return the moved packed coordinate.
+     */
+    public static long translate(final long packed, final int dx, final int dy) {
+        return pack(getX(packed) + dx, getY(packed) + dy);
+    }
+
+    /**
+     * Pack a {@link Coordinates2D} in a long.
+     *
+     * @param coord the {@link Coordinates2D} to be packed.
+     * @return the packed coordinate.
+     */
+    public static long pack(final Coordinates2D<Integer> coord) {
+        return pack(coord.getX(), coord.getY());
+    }
+
+    /**
+     * Unpack a packed coordinate in a new {@link Coordinates2D}.
+     *
+     * @param packed the packed coordinate.
+     * @return a {@link Coordinates2D} with the same values of the packed coordinate.
+     */
+    public static Coordinates2D<Integer> unpack(final long packed) {
+        return CoordinatesUtil.of(getX(packed), getY(packed));
+    }
+}
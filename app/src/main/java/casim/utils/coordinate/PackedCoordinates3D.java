@@ -0,0 +1,112 @@
+package casim.utils.coordinate;
+
+/**
+ * Utility class that encodes a 3D integer coordinate in a primitive long, so that it can be
+ * passed around without allocating a {@link Coordinates3D}.
+ * Every value is stored as a signed 21 bits field, X in the upper one and Z in the lower one,
+ * so the packed values must be between {@link #MIN_VALUE} and {@link #MAX_VALUE}.
+ */
+public final class PackedCoordinates3D {
+
+    private static final int FIELD_BITS = 21;
+    private static final long FIELD_MASK = (1L << FIELD_BITS) - 1;
+    private static final int SIGN_SHIFT = 64 - FIELD_BITS;
+
+    /**
+     * The greatest value that can be packed.
+     */
+    public static final int MAX_VALUE = (1 << FIELD_BITS - 1) - 1;
+    /**
+     * The smallest value that can be packed.
+     */
+    public static final int MIN_VALUE = -(1 << FIELD_BITS - 1);
+
+    private PackedCoordinates3D() {
+
+    }
+
+    /**
+     * Pack the values given as arguments in a long.
+     *
+     * @param x value to be used as coordinate x.
+     * @param y value to be used as coordinate y.
+     * @param z value to be used as coordinate z.
+     * @return the packed coordinate.
+     * @throws IllegalArgumentException if a value is outside the range [{@link #MIN_VALUE}, {@link #MAX_VALUE}].
+     */
+    public static long pack(final int x, final int y, final int z) {
+        if (!isPackable(x) || !isPackable(y) || !isPackable(z)) {
+            throw new IllegalArgumentException("Values out of the packable range [" + MIN_VALUE + ", " + MAX_VALUE
+                + "]: " + x + ", " + y + ", " + z);
+        }
+        return (x & FIELD_MASK) << 2 * FIELD_BITS | (y & FIELD_MASK) << FIELD_BITS | z & FIELD_MASK;
+    }
+
+    /**
+     * Get the X value of a packed coordinate.
+     *
+     * @param packed the packed coordinate.
+     * @return the X coordinate value.
+     */
+    public static int getX(final long packed) {
+        return (int) (packed << 1 >> SIGN_SHIFT);
+    }
+
+    /**
+     * Get the Y value of a packed coordinate.
+     *
+     * @param packed the packed coordinate.
+     * @return the Y coordinate value.
+     */
+    public static int getY(final long packed) {
+        return (int) (packed << FIELD_BITS + 1 >> SIGN_SHIFT);
+    }
+
+    /**
+     * Get the Z value of a packed coordinate.
+     *
+     * @param packed the packed coordinate.
+     * @return the Z coordinate value.
+     */
+    public static int getZ(final long packed) {
+        return (int) (packed << SIGN_SHIFT >> SIGN_SHIFT);
+    }
+
+    /**
+     * Return the packed coordinate moved by the given offsets.
+     *
+     * @param packed the packed coordinate.
+     * @param dx the offset to be added to the X value.
+     * @param dy the offset to be added to the Y value.
+     * @param dz the offset to be added to the Z value.
+     * @return the moved packed coordinate.
+     * @throws IllegalArgumentException if a moved value is outside the range [{@link #MIN_VALUE}, {@link #MAX_VALUE}].
+     */
+    public static long translate(final long packed, final int dx, final int dy, final int dz) {
+        return pack(getX(packed) + dx, getY(packed) + dy, getZ(packed) + dz);
+    }
+
+    /**
+     * Pack a {@link Coordinates3D} in a long.
+     *
+     * @param coord the {@link Coordinates3D} to be packed.
+     * @return the packed coordinate.
+     */
+    public static long pack(final Coordinates3D<Integer> coord) {
+        return pack(coord.getX(), coord.getY(), coord.getZ());
+    }
+
+    /**
+     * Unpack a packed coordinate in a new {@link Coordinates3D}.
+     *
+     * @param packed the packed coordinate.
+     * @return a {@link Coordinates3D} with the same values of the packed coordinate.
+     */
+    public static Coordinates3D<Integer> unpack(final long packed) {
+        return CoordinatesUtil.of(getX(packed), getY(packed), getZ(packed));
+    }
+
+    private static boolean isPackable(final int value) {
+        return value >= MIN_VALUE && value <= MAX_VALUE;
+    }
+}
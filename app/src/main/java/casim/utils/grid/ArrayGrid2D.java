@@ -0,0 +1,156 @@
+package casim.utils.grid;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * Implementation of {@link Grid2D} backed by a single row-major array.
+ *
+ * @param <T> the type of the elements contained in {@link ArrayGrid2D}.
+ */
+public class ArrayGrid2D<T> implements IndexedGrid2D<T> {
+
+    private final int rows;
+    private final int columns;
+    private final Object[] cells;
+
+    /**
+     * Construct a new {@link ArrayGrid2D} filled with nulls.
+     *
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     */
+    public ArrayGrid2D(final int rows, final int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new Object[rows * columns];
+    }
+
+    /**
+     * Construct a new {@link ArrayGrid2D} with a default value supplier.
+     *
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @param defaultValue the default value supplier.
+     */
+    public ArrayGrid2D(final int rows, final int columns, final Supplier<T> defaultValue) {
+        this(rows, columns);
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = defaultValue.get();
+        }
+    }
+
+    /**
+     * Construct a new {@link ArrayGrid2D} with a function that maps coordinates to values.
+     *
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @param valueFunction the function that maps coordinates to value.
+     */
+    public ArrayGrid2D(final int rows, final int columns, final Function<Coordinates2D<Integer>, T> valueFunction) {
+        this(rows, columns);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                this.cells[row * columns + column] = valueFunction.apply(CoordinatesUtil.of(row, column));
+            }
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return this.columns;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.rows;
+    }
+
+    @Override
+    public T get(final int row, final int column) {
+        this.throwIfOutOfBound(row, column);
+        return this.elementAt(row * this.columns + column);
+    }
+
+    @Override
+    public void set(final int row, final int column, final T value) {
+        this.throwIfOutOfBound(row, column);
+        this.cells[row * this.columns + column] = value;
+    }
+
+    @Override
+    public T getUnchecked(final int index) {
+        return this.elementAt(index);
+    }
+
+    @Override
+    public void setUnchecked(final int index, final T value) {
+        this.cells[index] = value;
+    }
+
+    @Override
+    public int indexOf(final int row, final int column) {
+        return row * this.columns + column;
+    }
+
+    @Override
+    public int size() {
+        return this.cells.length;
+    }
+
+    @Override
+    public T get(final Coordinates2D<Integer> coord) {
+        return this.get(coord.getX(), coord.getY());
+    }
+
+    @Override
+    public void set(final Coordinates2D<Integer> coord, final T value) {
+        this.set(coord.getX(), coord.getY(), value);
+    }
+
+    @Override
+    public boolean isCoordValid(final Coordinates2D<Integer> coord) {
+        return this.isCoordValid(coord.getX(), coord.getY());
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Arrays.stream(this.cells).map(this::cast);
+    }
+
+    @Override
+    public <O> Grid2D<O> map(final Function<T, O> mapper) {
+        final var output = new ArrayGrid2D<O>(this.rows, this.columns);
+        for (int i = 0; i < this.cells.length; i++) {
+            output.cells[i] = mapper.apply(this.elementAt(i));
+        }
+        return output;
+    }
+
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return row >= 0 && row < this.rows && column >= 0 && column < this.columns;
+    }
+
+    private void throwIfOutOfBound(final int row, final int column) {
+        if (!this.isCoordValid(row, column)) {
+            throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth()
+                + "Coord: " + CoordinatesUtil.of(row, column));
+        }
+    }
+
+    private T elementAt(final int index) {
+        return this.cast(this.cells[index]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(final Object element) {
+        return (T) element;
+    }
+
+}
@@ -0,0 +1,178 @@
+package casim.utils.grid;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import casim.utils.coordinate.Coordinates3D;
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * Implementation of {@link Grid3D} backed by a single array.
+ * The x coordinate (the row) is the fastest varying one, followed by y (the column) and then z (the depth),
+ * so that a sweep with the x loop innermost walks the array sequentially.
+ *
+ * @param <T> the type of the elements contained in {@link ArrayGrid3D}.
+ */
+public class ArrayGrid3D<T> implements IndexedGrid3D<T> {
+
+    private final int rows;
+    private final int columns;
+    private final int depth;
+    private final int columnStride;
+    private final int depthStride;
+    private final Object[] cells;
+
+    /**
+     * Construct a new {@link ArrayGrid3D} filled with nulls.
+     *
+     * @param rows the number of the rows of the {@link Grid3D}.
+     * @param columns the number of the columns of the {@link Grid3D}.
+     * @param depth the depth of the {@link Grid3D}.
+     */
+    public ArrayGrid3D(final int rows, final int columns, final int depth) {
+        this.rows = rows;
+        this.columns = columns;
+        this.depth = depth;
+        this.columnStride = rows;
+        this.depthStride = rows * columns;
+        this.cells = new Object[rows * columns * depth];
+    }
+
+    /**
+     * Construct a new {@link ArrayGrid3D} with a default value supplier.
+     *
+     * @param rows the number of the rows of the {@link Grid3D}.
+     * @param columns the number of the columns of the {@link Grid3D}.
+     * @param depth the depth of the {@link Grid3D}.
+     * @param defaultValue the default value supplier.
+     */
+    public ArrayGrid3D(final int rows, final int columns, final int depth, final Supplier<T> defaultValue) {
+        this(rows, columns, depth);
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = defaultValue.get();
+        }
+    }
+
+    /**
+     * Construct a new {@link ArrayGrid3D} with a function that maps coordinates to values.
+     *
+     * @param rows the number of the rows of the {@link Grid3D}.
+     * @param columns the number of the columns of the {@link Grid3D}.
+     * @param depth the depth of the {@link Grid3D}.
+     * @param valueFunction the function that maps coordinates to values.
+     */
+    public ArrayGrid3D(final int rows, final int columns, final int depth,
+            final Function<Coordinates3D<Integer>, T> valueFunction) {
+        this(rows, columns, depth);
+        for (int z = 0; z < depth; z++) {
+            for (int y = 0; y < columns; y++) {
+                for (int x = 0; x < rows; x++) {
+                    this.cells[this.indexOf(x, y, z)] = valueFunction.apply(CoordinatesUtil.of(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return this.columns;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.rows;
+    }
+
+    @Override
+    public int getDepth() {
+        return this.depth;
+    }
+
+    @Override
+    public T get(final int row, final int column, final int depth) {
+        this.throwIfOutOfBound(row, column, depth);
+        return this.elementAt(this.indexOf(row, column, depth));
+    }
+
+    @Override
+    public void set(final int row, final int column, final int depth, final T value) {
+        this.throwIfOutOfBound(row, column, depth);
+        this.cells[this.indexOf(row, column, depth)] = value;
+    }
+
+    @Override
+    public T getUnchecked(final int index) {
+        return this.elementAt(index);
+    }
+
+    @Override
+    public void setUnchecked(final int index, final T value) {
+        this.cells[index] = value;
+    }
+
+    @Override
+    public int indexOf(final int row, final int column, final int depth) {
+        return row + column * this.columnStride + depth * this.depthStride;
+    }
+
+    @Override
+    public int size() {
+        return this.cells.length;
+    }
+
+    @Override
+    public T get(final Coordinates3D<Integer> coord) {
+        return this.get(coord.getX(), coord.getY(), coord.getZ());
+    }
+
+    @Override
+    public void set(final Coordinates3D<Integer> coord, final T value) {
+        this.set(coord.getX(), coord.getY(), coord.getZ(), value);
+    }
+
+    @Override
+    public boolean isCoordValid(final Coordinates3D<Integer> coord) {
+        return this.isCoordValid(coord.getX(), coord.getY(), coord.getZ());
+    }
+
+    /**
+     * Return a {@link Stream} of the elements in memory order (x fastest, then y, then z).
+     */
+    @Override
+    public Stream<T> stream() {
+        return Arrays.stream(this.cells).map(this::cast);
+    }
+
+    @Override
+    public <O> Grid3D<O> map(final Function<T, O> mapper) {
+        final var output = new ArrayGrid3D<O>(this.rows, this.columns, this.depth);
+        for (int i = 0; i < this.cells.length; i++) {
+            output.cells[i] = mapper.apply(this.elementAt(i));
+        }
+        return output;
+    }
+
+    @Override
+    public boolean isCoordValid(final int row, final int column, final int depth) {
+        return row >= 0 && row < this.rows && column >= 0 && column < this.columns && depth >= 0 && depth < this.depth;
+    }
+
+    private void throwIfOutOfBound(final int row, final int column, final int depth) {
+        if (!this.isCoordValid(row, column, depth)) {
+            throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth()
+                + " x " + this.getDepth() + "Coord: " + CoordinatesUtil.of(row, column, depth));
+        }
+    }
+
+    private T elementAt(final int index) {
+        return this.cast(this.cells[index]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(final Object element) {
+        return (T) element;
+    }
+
+}
@@ -0,0 +1,17 @@
+package casim.utils.grid;
+
+/**
+ * Operation that accepts the position of a cell of a {@link Grid3D}, without boxing it in a coordinate.
+ */
+@FunctionalInterface
+public interface Cell3DConsumer {
+
+    /**
+     * Perform the operation on the cell.
+     *
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @param depth the depth of the cell.
+     */
+    void accept(int row, int column, int depth);
+}
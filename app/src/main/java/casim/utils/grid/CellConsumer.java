@@ -0,0 +1,16 @@
+package casim.utils.grid;
+
+/**
+ * Operation that accepts the position of a cell of a {@link Grid2D}, without boxing it in a coordinate.
+ */
+@FunctionalInterface
+public interface CellConsumer {
+
+    /**
+     * Perform the operation on the cell.
+     *
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     */
+    void accept(int row, int column);
+}
@@ -0,0 +1,209 @@
+package casim.utils.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.coordinate.PackedCoordinates2D;
+
+/**
+ * Sparse and unbounded {@link Grid2D} made of square tiles of {@link #TILE_SIZE} x {@link #TILE_SIZE} cells.
+ * Every cell holds a background value until it is set to something else: the tiles are allocated
+ * only when one of their cells leaves the background, and released as soon as all of them go back to it.
+ * Any coordinate, negative ones included, can be read and written, while null can only be used as background.
+ * The height and the width only define the viewport, starting at (0, 0), that is covered by
+ * {@link #stream()} and {@link #map(Function)}.
+ *
+ * @param <T> the type of the elements contained in {@link ChunkedGrid2D}.
+ */
+public class ChunkedGrid2D<T> implements Grid2D<T> {
+
+    /**
+     * The number of rows and columns of a tile.
+     */
+    public static final int TILE_SIZE = 64;
+    private static final int TILE_BITS = Integer.numberOfTrailingZeros(TILE_SIZE);
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    private final int rows;
+    private final int columns;
+    private final T background;
+    private final LongKeyMap<Tile> tiles = new LongKeyMap<>();
+
+    /**
+     * Construct a new {@link ChunkedGrid2D} where every cell holds the background value.
+     *
+     * @param rows the number of the rows of the viewport.
+     * @param columns the number of the columns of the viewport.
+     * @param background the value of the cells that are not stored.
+     */
+    public ChunkedGrid2D(final int rows, final int columns, final T background) {
+        this.rows = rows;
+        this.columns = columns;
+        this.background = background;
+    }
+
+    /**
+     * Construct a new {@link ChunkedGrid2D} with the values of a pre-existing grid, placed at (0, 0).
+     *
+     * @param base the initial grid, its size becomes the viewport size.
+     * @param background the value of the cells that are not stored.
+     */
+    public ChunkedGrid2D(final Grid2D<T> base, final T background) {
+        this(base.getHeight(), base.getWidth(), background);
+        for (int row = 0; row < this.rows; row++) {
+            for (int column = 0; column < this.columns; column++) {
+                this.set(row, column, base.get(row, column));
+            }
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return this.columns;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.rows;
+    }
+
+    @Override
+    public T get(final Coordinates2D<Integer> coord) {
+        return this.get(coord.getX(), coord.getY());
+    }
+
+    @Override
+    public void set(final Coordinates2D<Integer> coord, final T value) {
+        this.set(coord.getX(), coord.getY(), value);
+    }
+
+    /**
+     * Return always true, because the grid is unbounded.
+     */
+    @Override
+    public boolean isCoordValid(final Coordinates2D<Integer> coord) {
+        return true;
+    }
+
+    /**
+     * Return always true, because the grid is unbounded.
+     */
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return true;
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return IntStream.range(0, this.rows * this.columns)
+            .mapToObj(i -> this.get(i / this.columns, i % this.columns));
+    }
+
+    @Override
+    public T get(final int row, final int column) {
+        final Tile tile = this.tiles.get(keyOf(row >> TILE_BITS, column >> TILE_BITS));
+        return tile == null ? this.background : tile.get(row & TILE_MASK, column & TILE_MASK);
+    }
+
+    @Override
+    public void set(final int row, final int column, final T value) {
+        final long key = keyOf(row >> TILE_BITS, column >> TILE_BITS);
+        Tile tile = this.tiles.get(key);
+        if (Objects.equals(value, this.background)) {
+            if (tile != null && tile.clear(row & TILE_MASK, column & TILE_MASK)) {
+                this.tiles.remove(key);
+            }
+            return;
+        }
+        Objects.requireNonNull(value);
+        if (tile == null) {
+            tile = new Tile();
+            this.tiles.put(key, tile);
+        }
+        tile.set(row & TILE_MASK, column & TILE_MASK, value);
+    }
+
+    @Override
+    public <O> Grid2D<O> map(final Function<T, O> mapper) {
+        return Grids.of(this.rows, this.columns, coord -> mapper.apply(this.get(coord)));
+    }
+
+    /**
+     * Return the value of the cells that are not stored.
+     *
+     * @return the background value.
+     */
+    public T getBackground() {
+        return this.background;
+    }
+
+    /**
+     * Return the number of allocated tiles.
+     *
+     * @return the number of allocated tiles.
+     */
+    public int getTileCount() {
+        return this.tiles.size();
+    }
+
+    /**
+     * Return the coordinates of the top left cell of every allocated tile, in no particular order.
+     *
+     * @return a list containing the origins of the allocated tiles.
+     */
+    public List<Coordinates2D<Integer>> getTileOrigins() {
+        final List<Coordinates2D<Integer>> origins = new ArrayList<>(this.tiles.size());
+        this.tiles.forEachKey(key -> origins.add(CoordinatesUtil.of(
+            PackedCoordinates2D.getX(key) << TILE_BITS, PackedCoordinates2D.getY(key) << TILE_BITS)));
+        return origins;
+    }
+
+    private static long keyOf(final int tileRow, final int tileColumn) {
+        return PackedCoordinates2D.pack(tileRow, tileColumn);
+    }
+
+    /**
+     * A tile of cells, that keeps track of how many of them are not set to the background.
+     */
+    private final class Tile {
+
+        private final Object[] cells = new Object[TILE_SIZE * TILE_SIZE];
+        private int used;
+
+        private T get(final int row, final int column) {
+            final Object value = this.cells[row * TILE_SIZE + column];
+            return value == null ? ChunkedGrid2D.this.background : this.cast(value);
+        }
+
+        private void set(final int row, final int column, final T value) {
+            final int index = row * TILE_SIZE + column;
+            if (this.cells[index] == null) {
+                this.used++;
+            }
+            this.cells[index] = value;
+        }
+
+        /**
+         * Set the cell back to the background, returning true if the tile became empty.
+         */
+        private boolean clear(final int row, final int column) {
+            final int index = row * TILE_SIZE + column;
+            if (this.cells[index] != null) {
+                this.cells[index] = null;
+                this.used--;
+            }
+            return this.used == 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T cast(final Object value) {
+            return (T) value;
+        }
+    }
+}
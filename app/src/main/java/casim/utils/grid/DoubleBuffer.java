@@ -0,0 +1,61 @@
+package casim.utils.grid;
+
+import java.util.Objects;
+
+/**
+ * A pair of {@link Grid}s of the same shape used to compute synchronous generations without allocations:
+ * the current generation is read from the front grid, the next one is written in the back grid
+ * and then the two are swapped.
+ * The grid returned by {@link #getFront()} becomes the back grid at the next swap, so it must not be kept across steps.
+ *
+ * @param <G> the type of the {@link Grid}s.
+ */
+public class DoubleBuffer<G extends Grid<?, ?>> {
+
+    private G front;
+    private G back;
+
+    /**
+     * Construct a new {@link DoubleBuffer} from the two given grids.
+     *
+     * @param front the {@link Grid} holding the current generation.
+     * @param back the {@link Grid} where the next generation will be written.
+     */
+    public DoubleBuffer(final G front, final G back) {
+        if (Objects.requireNonNull(front) == Objects.requireNonNull(back)) {
+            throw new IllegalArgumentException("The front and the back grids must be different instances.");
+        }
+        this.front = front;
+        this.back = back;
+    }
+
+    /**
+     * Return the {@link Grid} holding the current generation.
+     *
+     * @return the front {@link Grid}.
+     */
+    public G getFront() {
+        return this.front;
+    }
+
+    /**
+     * Return the {@link Grid} where the next generation has to be written.
+     *
+     * @return the back {@link Grid}.
+     */
+    public G getBack() {
+        return this.back;
+    }
+
+    /**
+     * Swap the front and the back grids, making the written generation the current one.
+     *
+     * @return the new front {@link Grid}.
+     */
+    public G swap() {
+        final G tmp = this.front;
+        this.front = this.back;
+        this.back = tmp;
+        return this.front;
+    }
+}
@@ -57,6 +57,48 @@ public interface Grid<K extends Coordinates<? extends Number>, V> {
      */
     boolean isCoordValid(K coord);
 
+    /**
+     * Decode a packed coordinate in the {@link Coordinates} used by the {@link Grid}.
+     * 
+     * @param coord the packed coordinate.
+     * @return the {@link Coordinates} with the same values of the packed one.
+     */
+    K unpack(long coord);
+
+    /**
+     * Return the value at the given packed coordinate.
+     *
+     * Throws {@link IndexOutOfBoundsException} if the coordinate is out of bound.
+     * 
+     * @param coord the packed coordinate of the element.
+     * @return the value at coord.
+     */
+    default V getPacked(final long coord) {
+        return this.get(this.unpack(coord));
+    }
+
+    /**
+     * Set the element at the given packed coordinate.
+     *
+     * Throws {@link IndexOutOfBoundsException} if the coordinate is out of bound.
+     * 
+     * @param coord the packed coordinate of the element to set.
+     * @param value to set.
+     */
+    default void setPacked(final long coord, final V value) {
+        this.set(this.unpack(coord), value);
+    }
+
+    /**
+     * Return true if the packed coordinate is inside the {@link Grid}.
+     * 
+     * @param coord the packed coordinate.
+     * @return true if the packed coordinate is valid for {@link Grid}.
+     */
+    default boolean isPackedValid(final long coord) {
+        return this.isCoordValid(this.unpack(coord));
+    }
+
     /**
      * Return a Stream of the elements in {@link Grid}.
      * 
@@ -64,6 +106,15 @@ public interface Grid<K extends Coordinates<? extends Number>, V> {
      */
     Stream<V> stream();
 
+    /**
+     * Return a parallel Stream of the elements in {@link Grid}.
+     * 
+     * @return a parallel Stream of the elements in {@link Grid}.
+     */
+    default Stream<V> parallelStream() {
+        return this.stream().parallel();
+    }
+
     /**
      * Return a list containing the pairs {@link Coordinates} + value of the {@link Coordinates} taken as input.
      * 
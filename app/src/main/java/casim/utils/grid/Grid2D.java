@@ -3,6 +3,8 @@ package casim.utils.grid;
 import java.util.function.Function;
 
 import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.coordinate.PackedCoordinates2D;
 
 /**
  * Bidimensional grid interface.
@@ -32,6 +34,42 @@ public interface Grid2D<T> extends Grid<Coordinates2D<Integer>, T> {
      */
     void set(int row, int column, T value);
 
+    /**
+     * Return true if the given position is inside the {@link Grid2D}.
+     * The default implementation allocates a {@link Coordinates2D}, so the implementations
+     * should override it with a primitive check.
+     * 
+     * @param row of the position.
+     * @param column of the position.
+     * @return true if the position is valid for {@link Grid2D}.
+     */
+    default boolean isCoordValid(final int row, final int column) {
+        return this.isCoordValid(CoordinatesUtil.of(row, column));
+    }
+
+    /**
+     * Decode a coordinate packed by {@link PackedCoordinates2D}.
+     */
+    @Override
+    default Coordinates2D<Integer> unpack(final long coord) {
+        return PackedCoordinates2D.unpack(coord);
+    }
+
+    @Override
+    default T getPacked(final long coord) {
+        return this.get(PackedCoordinates2D.getX(coord), PackedCoordinates2D.getY(coord));
+    }
+
+    @Override
+    default void setPacked(final long coord, final T value) {
+        this.set(PackedCoordinates2D.getX(coord), PackedCoordinates2D.getY(coord), value);
+    }
+
+    @Override
+    default boolean isPackedValid(final long coord) {
+        return this.isCoordValid(PackedCoordinates2D.getX(coord), PackedCoordinates2D.getY(coord));
+    }
+
     /**
      * Return a new {@link Grid2D} applying a mapper function to the elements of grid.
      * 
@@ -40,4 +78,17 @@ public interface Grid2D<T> extends Grid<Coordinates2D<Integer>, T> {
      * @return the mapped grid.
      */
     <O> Grid2D<O> map(Function<T, O> mapper);
+
+    /**
+     * Return a read-only view of the grid that applies a mapper function to the elements when they are accessed.
+     * Unlike {@link #map(Function)} nothing is copied, so the view reflects the later changes of the grid
+     * and the mapper is applied again at every access.
+     * 
+     * @param <O> the type of the elements of the view.
+     * @param mapper the map function.
+     * @return the mapped view.
+     */
+    default <O> Grid2D<O> view(final Function<T, O> mapper) {
+        return new MappedGrid2D<>(this, mapper);
+    }
 }
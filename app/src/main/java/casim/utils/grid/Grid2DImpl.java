@@ -5,6 +5,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import casim.utils.coordinate.Coordinates2D;
 import casim.utils.coordinate.CoordinatesUtil;
@@ -41,9 +42,9 @@ import casim.utils.range.Ranges;
     public Grid2DImpl(final int rows, final int columns, final Supplier<T> defaultValue) {
         this.rows = rows;
         this.columns = columns;
-        this.grid = Ranges.of(0, rows).stream()
-            .map(x -> Ranges.of(0, columns).stream()
-            .map(y -> defaultValue.get())
+        this.grid = Ranges.of(0, rows).intStream()
+            .mapToObj(x -> Ranges.of(0, columns).intStream()
+            .mapToObj(y -> defaultValue.get())
             .collect(Collectors.toList()))
             .collect(Collectors.toList());
     }
@@ -58,9 +59,9 @@ import casim.utils.range.Ranges;
     public Grid2DImpl(final int rows, final int columns, final Function<Coordinates2D<Integer>, T> valueFunction) {
         this.rows = rows;
         this.columns = columns;
-        this.grid = Ranges.of(0, rows).stream()
-            .map(x -> Ranges.of(0, columns).stream()
-                .map(y -> valueFunction.apply(CoordinatesUtil.of(x, y)))
+        this.grid = Ranges.of(0, rows).intStream()
+            .mapToObj(x -> Ranges.of(0, columns).intStream()
+                .mapToObj(y -> valueFunction.apply(CoordinatesUtil.of(x, y)))
                 .collect(Collectors.toList()))
             .collect(Collectors.toList());
     }
@@ -77,20 +78,19 @@ import casim.utils.range.Ranges;
 
     @Override
     public T get(final int row, final int column) {
-        this.throwIfOutOfBound(CoordinatesUtil.of(row, column));
+        this.throwIfOutOfBound(row, column);
         return this.grid.get(row).get(column);
     }
 
     @Override
     public void set(final int row, final int column, final T value) {
-        this.throwIfOutOfBound(CoordinatesUtil.of(row, column));
+        this.throwIfOutOfBound(row, column);
         this.grid.get(row).set(column, value);
     }
 
     @Override
     public T get(final Coordinates2D<Integer> coord) {
-        this.throwIfOutOfBound(coord);
-        return this.grid.get(coord.getX()).get(coord.getY());
+        return this.get(coord.getX(), coord.getY());
     }
 
     @Override
@@ -100,12 +100,13 @@ import casim.utils.range.Ranges;
 
     @Override
     public boolean isCoordValid(final Coordinates2D<Integer> coord) {
-        return CoordinatesUtil.isValid(coord, this.rows, this.columns);
+        return this.isCoordValid(coord.getX(), coord.getY());
     }
 
     @Override
     public Stream<T> stream() {
-        return this.grid.stream().flatMap(List :: stream);
+        return StreamSupport.stream(new IndexSpliterator<>(this.rows * this.columns,
+            i -> this.grid.get(i / this.columns).get(i % this.columns)), false);
     }
 
     @Override
@@ -117,9 +118,15 @@ import casim.utils.range.Ranges;
         );
     }
 
-    private void throwIfOutOfBound(final Coordinates2D<Integer> coord) {
-        if (!this.isCoordValid(coord)) {
-            throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth() + "Coord: " + coord);
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return row >= 0 && row < this.rows && column >= 0 && column < this.columns;
+    }
+
+    private void throwIfOutOfBound(final int row, final int column) {
+        if (!this.isCoordValid(row, column)) {
+            throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth()
+                + "Coord: " + CoordinatesUtil.of(row, column));
         }
     }
 
@@ -3,6 +3,8 @@ package casim.utils.grid;
 import java.util.function.Function;
 
 import casim.utils.coordinate.Coordinates3D;
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.coordinate.PackedCoordinates3D;
 
 /**
  * 3-Dimensional grid interface.
@@ -51,6 +53,44 @@ import casim.utils.coordinate.Coordinates3D;
      */
     void set(int row, int column, int depth, T value);
 
+    /**
+     * Return true if the given position is inside the {@link Grid3D}.
+     * The default implementation allocates a {@link Coordinates3D}, so the implementations
+     * should override it with a primitive check.
+     * 
+     * @param row of the position.
+     * @param column of the position.
+     * @param depth of the position.
+     * @return true if the position is valid for {@link Grid3D}.
+     */
+    default boolean isCoordValid(final int row, final int column, final int depth) {
+        return this.isCoordValid(CoordinatesUtil.of(row, column, depth));
+    }
+
+    /**
+     * Decode a coordinate packed by {@link PackedCoordinates3D}.
+     */
+    @Override
+    default Coordinates3D<Integer> unpack(final long coord) {
+        return PackedCoordinates3D.unpack(coord);
+    }
+
+    @Override
+    default T getPacked(final long coord) {
+        return this.get(PackedCoordinates3D.getX(coord), PackedCoordinates3D.getY(coord), PackedCoordinates3D.getZ(coord));
+    }
+
+    @Override
+    default void setPacked(final long coord, final T value) {
+        this.set(PackedCoordinates3D.getX(coord), PackedCoordinates3D.getY(coord), PackedCoordinates3D.getZ(coord), value);
+    }
+
+    @Override
+    default boolean isPackedValid(final long coord) {
+        return this.isCoordValid(PackedCoordinates3D.getX(coord), PackedCoordinates3D.getY(coord),
+            PackedCoordinates3D.getZ(coord));
+    }
+
     /**
      * Return a new {@link Grid3D} applying a mapper function to the elements of grid.
      * 
@@ -5,6 +5,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import casim.utils.coordinate.Coordinates3D;
 import casim.utils.coordinate.CoordinatesUtil;
@@ -46,10 +47,10 @@ import casim.utils.range.Ranges;
         this.columns = columns;
         this.depth = depth;
 
-        this.grid = Ranges.of(0, depth).stream()
-                .map(z -> Ranges.of(0, rows).stream()
-                .map(x -> Ranges.of(0, columns).stream()
-                .map(y -> defaultValue.get())
+        this.grid = Ranges.of(0, depth).intStream()
+                .mapToObj(z -> Ranges.of(0, rows).intStream()
+                .mapToObj(x -> Ranges.of(0, columns).intStream()
+                .mapToObj(y -> defaultValue.get())
                 .collect(Collectors.toList()))
                 .collect(Collectors.toList()))
                 .collect(Collectors.toList());
@@ -68,10 +69,10 @@ import casim.utils.range.Ranges;
         this.columns = columns;
         this.depth = depth;
 
-        this.grid = Ranges.of(0, depth).stream()
-                .map(z -> Ranges.of(0, rows).stream()
-                .map(x -> Ranges.of(0, columns).stream()
-                .map(y -> valueFunction.apply(CoordinatesUtil.of(x, y, z)))
+        this.grid = Ranges.of(0, depth).intStream()
+                .mapToObj(z -> Ranges.of(0, rows).intStream()
+                .mapToObj(x -> Ranges.of(0, columns).intStream()
+                .mapToObj(y -> valueFunction.apply(CoordinatesUtil.of(x, y, z)))
                 .collect(Collectors.toList()))
                 .collect(Collectors.toList()))
                 .collect(Collectors.toList());
@@ -94,36 +95,36 @@ import casim.utils.range.Ranges;
 
     @Override
     public T get(final int row, final int column, final int depth) {
-        this.throwIfOutOfBound(CoordinatesUtil.of(row, column, depth));
+        this.throwIfOutOfBound(row, column, depth);
         return this.grid.get(depth).get(row).get(column);
     }
 
     @Override
     public void set(final int row, final int column, final int depth, final T value) {
-        this.throwIfOutOfBound(CoordinatesUtil.of(row, column, depth));
+        this.throwIfOutOfBound(row, column, depth);
         this.grid.get(depth).get(row).set(column, value);
     }
 
     @Override
     public T get(final Coordinates3D<Integer> coord) {
-        this.throwIfOutOfBound(coord);
         return this.get(coord.getX(), coord.getY(), coord.getZ());
     }
 
     @Override
     public void set(final Coordinates3D<Integer> coord, final T value) {
-        this.throwIfOutOfBound(coord);
         this.set(coord.getX(), coord.getY(), coord.getZ(), value);
     }
 
     @Override
     public boolean isCoordValid(final Coordinates3D<Integer> coord) {
-        return CoordinatesUtil.isValid(coord, this.rows, this.columns, this.depth);
+        return this.isCoordValid(coord.getX(), coord.getY(), coord.getZ());
     }
 
     @Override
     public Stream<T> stream() {
-        return this.grid.stream().flatMap(e -> e.stream().flatMap(List::stream));
+        final int layer = this.rows * this.columns;
+        return StreamSupport.stream(new IndexSpliterator<>(layer * this.depth,
+            i -> this.grid.get(i / layer).get(i % layer / this.columns).get(i % this.columns)), false);
     }
 
     @Override
@@ -131,9 +132,15 @@ import casim.utils.range.Ranges;
         return new Grid3DImpl<>(this.rows, this.columns, this.depth, coord -> mapper.apply(this.get(coord)));
     }
 
-    private void throwIfOutOfBound(final Coordinates3D<Integer> coord) {
-        if (!this.isCoordValid(coord)) {
-            throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth() + "Coord: " + coord);
+    @Override
+    public boolean isCoordValid(final int row, final int column, final int depth) {
+        return row >= 0 && row < this.rows && column >= 0 && column < this.columns && depth >= 0 && depth < this.depth;
+    }
+
+    private void throwIfOutOfBound(final int row, final int column, final int depth) {
+        if (!this.isCoordValid(row, column, depth)) {
+            throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth()
+                + "Coord: " + CoordinatesUtil.of(row, column, depth));
         }
     }
 
@@ -11,8 +11,15 @@ import casim.utils.range.Ranges;
  * Grid utily class.
  */
 public final class GridUtils {
+
+    /**
+     * Default side of the tiles of a 3D tiled visit, so that a tile of references fits in the L2 cache.
+     */
+    public static final int DEFAULT_TILE_3D = 16;
+
     /**
      * Returns a stream with every coordinate that indexes a rows x columns grid.
+     * The coordinates are the cached instances when the grid has been created through {@link Grids}.
      * 
      * @param rows number of rows of the grid.
      * @param columns number of columns of the grid.
@@ -27,6 +34,7 @@ public final class GridUtils {
 
     /**
      * Returns a stream with every coordinate that indexes a rows x columns x depth grid.
+     * The coordinates are the cached instances when the grid has been created through {@link Grids}.
      * 
      * @param rows number of rows of the grid.
      * @param columns number of columns of the grid.
@@ -42,6 +50,80 @@ public final class GridUtils {
                 .flatMap(y -> rangeDepth.stream().map(z -> CoordinatesUtil.of(x, y, z))));
     }
 
+    /**
+     * Visit every cell of a rows x columns grid in row-major order, splitting the cells in two groups.
+     * The interior cells are the ones at least margin cells away from every border, so all their
+     * neighbors within that distance are inside the grid and can be read without any bound check;
+     * the other ones are the border cells, whose neighbors have to be checked.
+     * 
+     * @param rows number of rows of the grid.
+     * @param columns number of columns of the grid.
+     * @param margin the width of the border, usually the range of the neighborhood.
+     * @param interior the operation performed on the interior cells.
+     * @param border the operation performed on the border cells.
+     */
+    public static void forEachCell(final int rows, final int columns, final int margin,
+            final CellConsumer interior, final CellConsumer border) {
+        final int interiorEnd = Math.max(margin, columns - margin);
+        for (int row = 0; row < rows; row++) {
+            if (row < margin || row >= rows - margin) {
+                for (int column = 0; column < columns; column++) {
+                    border.accept(row, column);
+                }
+            } else {
+                for (int column = 0; column < Math.min(margin, columns); column++) {
+                    border.accept(row, column);
+                }
+                for (int column = margin; column < interiorEnd; column++) {
+                    interior.accept(row, column);
+                }
+                for (int column = interiorEnd; column < columns; column++) {
+                    border.accept(row, column);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visit every cell of a rows x columns x depth grid one tile at a time, so that the neighbors read by a
+     * stencil are still in cache when the following cells need them. Both the tiles and the cells of each
+     * tile are visited with the row innermost, then the column and then the depth, which is the memory
+     * order of the grids returned by {@link Grids}; the tiles on the last layers can be smaller.
+     * 
+     * @param rows number of rows of the grid.
+     * @param columns number of columns of the grid.
+     * @param depth depth of the grid.
+     * @param tileSize the side of a tile in every dimension.
+     * @param action the operation performed on every cell.
+     * @throws IllegalArgumentException if the tile size is not positive.
+     */
+    public static void forEachTiled(final int rows, final int columns, final int depth, final int tileSize,
+            final Cell3DConsumer action) {
+        checkTileSize(tileSize);
+        for (int tileZ = 0; tileZ < depth; tileZ += tileSize) {
+            final int zEnd = Math.min(depth, tileZ + tileSize);
+            for (int tileY = 0; tileY < columns; tileY += tileSize) {
+                final int yEnd = Math.min(columns, tileY + tileSize);
+                for (int tileX = 0; tileX < rows; tileX += tileSize) {
+                    final int xEnd = Math.min(rows, tileX + tileSize);
+                    for (int z = tileZ; z < zEnd; z++) {
+                        for (int y = tileY; y < yEnd; y++) {
+                            for (int x = tileX; x < xEnd; x++) {
+                                action.accept(x, y, z);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void checkTileSize(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The tile size must be positive: " + size);
+        }
+    }
+
     private GridUtils() {
 
     }
@@ -0,0 +1,140 @@
+package casim.utils.grid;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.Coordinates3D;
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * Utility class that easily allows to create the default {@link Grid} implementations.
+ * The size of every created grid is registered in the coordinates cache of {@link CoordinatesUtil}.
+ */
+public final class Grids {
+
+    private Grids() {
+
+    }
+
+    /**
+     * Creates a new {@link Grid2D} filled with nulls.
+     *
+     * @param <T> the type of the elements contained in the {@link Grid2D}.
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @return the new {@link IndexedGrid2D}.
+     */
+    public static <T> IndexedGrid2D<T> of(final int rows, final int columns) {
+        CoordinatesUtil.registerGridSize(rows, columns);
+        return new ArrayGrid2D<>(rows, columns);
+    }
+
+    /**
+     * Creates a new {@link Grid2D} with a default value supplier.
+     *
+     * @param <T> the type of the elements contained in the {@link Grid2D}.
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @param defaultValue the default value supplier.
+     * @return the new {@link IndexedGrid2D}.
+     */
+    public static <T> IndexedGrid2D<T> of(final int rows, final int columns, final Supplier<T> defaultValue) {
+        CoordinatesUtil.registerGridSize(rows, columns);
+        return new ArrayGrid2D<>(rows, columns, defaultValue);
+    }
+
+    /**
+     * Creates a new {@link Grid2D} with a function that maps coordinates to values.
+     *
+     * @param <T> the type of the elements contained in the {@link Grid2D}.
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @param valueFunction the function that maps coordinates to value.
+     * @return the new {@link IndexedGrid2D}.
+     */
+    public static <T> IndexedGrid2D<T> of(final int rows, final int columns,
+            final Function<Coordinates2D<Integer>, T> valueFunction) {
+        CoordinatesUtil.registerGridSize(rows, columns);
+        return new ArrayGrid2D<>(rows, columns, valueFunction);
+    }
+
+    /**
+     * Creates a new {@link Grid3D} filled with nulls.
+     *
+     * @param <T> the type of the elements contained in the {@link Grid3D}.
+     * @param rows the number of the rows of the {@link Grid3D}.
+     * @param columns the number of the columns of the {@link Grid3D}.
+     * @param depth the depth of the {@link Grid3D}.
+     * @return the new {@link IndexedGrid3D}.
+     */
+    public static <T> IndexedGrid3D<T> of(final int rows, final int columns, final int depth) {
+        CoordinatesUtil.registerGridSize(rows, columns, depth);
+        return new ArrayGrid3D<>(rows, columns, depth);
+    }
+
+    /**
+     * Creates a new {@link Grid3D} with a default value supplier.
+     *
+     * @param <T> the type of the elements contained in the {@link Grid3D}.
+     * @param rows the number of the rows of the {@link Grid3D}.
+     * @param columns the number of the columns of the {@link Grid3D}.
+     * @param depth the depth of the {@link Grid3D}.
+     * @param defaultValue the default value supplier.
+     * @return the new {@link IndexedGrid3D}.
+     */
+    public static <T> IndexedGrid3D<T> of(final int rows, final int columns, final int depth,
+            final Supplier<T> defaultValue) {
+        CoordinatesUtil.registerGridSize(rows, columns, depth);
+        return new ArrayGrid3D<>(rows, columns, depth, defaultValue);
+    }
+
+    /**
+     * Creates a new {@link Grid3D} with a function that maps coordinates to values.
+     *
+     * @param <T> the type of the elements contained in the {@link Grid3D}.
+     * @param rows the number of the rows of the {@link Grid3D}.
+     * @param columns the number of the columns of the {@link Grid3D}.
+     * @param depth the depth of the {@link Grid3D}.
+     * @param valueFunction the function that maps coordinates to value.
+     * @return the new {@link IndexedGrid3D}.
+     */
+    public static <T> IndexedGrid3D<T> of(final int rows, final int columns, final int depth,
+            final Function<Coordinates3D<Integer>, T> valueFunction) {
+        CoordinatesUtil.registerGridSize(rows, columns, depth);
+        return new ArrayGrid3D<>(rows, columns, depth, valueFunction);
+    }
+
+    /**
+     * Creates a new {@link Grid2D} of enum values that stores a single byte per cell.
+     *
+     * @param <E> the enum type of the elements contained in the {@link Grid2D}.
+     * @param type the class of the enum stored in the {@link Grid2D}.
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @param defaultValue the default value supplier.
+     * @return the new {@link IndexedGrid2D}.
+     */
+    public static <E extends Enum<E>> IndexedGrid2D<E> ofEnum(final Class<E> type, final int rows, final int columns,
+            final Supplier<E> defaultValue) {
+        CoordinatesUtil.registerGridSize(rows, columns);
+        return new OrdinalGrid2D<>(type, rows, columns, defaultValue);
+    }
+
+    /**
+     * Creates a new {@link Grid2D} of enum values that stores a single byte per cell,
+     * with a function that maps coordinates to values.
+     *
+     * @param <E> the enum type of the elements contained in the {@link Grid2D}.
+     * @param type the class of the enum stored in the {@link Grid2D}.
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @param valueFunction the function that maps coordinates to value.
+     * @return the new {@link IndexedGrid2D}.
+     */
+    public static <E extends Enum<E>> IndexedGrid2D<E> ofEnum(final Class<E> type, final int rows, final int columns,
+            final Function<Coordinates2D<Integer>, E> valueFunction) {
+        CoordinatesUtil.registerGridSize(rows, columns);
+        return new OrdinalGrid2D<>(type, rows, columns, valueFunction);
+    }
+}
@@ -0,0 +1,150 @@
+package casim.utils.grid;
+
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import casim.utils.coordinate.Coordinates2D;
+
+/**
+ * An N x M wrapped grid of elements of type {@link T} stored in a single array with a one-cell ghost border.
+ * The ghost cells hold copies of the cells on the opposite side of the grid, so the accesses
+ * up to one cell outside the grid, as the ones of a neighborhood, are resolved without any modulo operation.
+ * Every write on a border cell is copied to its ghost cells too, so the border is always up to date.
+ * Accesses further outside the grid are wrapped as in {@link WrappingGrid}.
+ *
+ * @param <T> the type contained in the {@link HaloWrappingGrid}.
+ */
+public class HaloWrappingGrid<T> implements Grid2D<T> {
+
+    private static final int ALIASES = 3;
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final int rows;
+    private final int columns;
+    private final int stride;
+    private final Object[] cells;
+
+    /**
+     * Create a new {@link HaloWrappingGrid} filled with nulls.
+     *
+     * @param rows the number of the rows of the grid.
+     * @param columns the number of the columns of the grid.
+     */
+    public HaloWrappingGrid(final int rows, final int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = columns + 2;
+        this.cells = new Object[(rows + 2) * this.stride];
+    }
+
+    /**
+     * Create a new {@link HaloWrappingGrid} with the values of a pre-existing grid.
+     *
+     * @param base initial grid.
+     */
+    public HaloWrappingGrid(final Grid2D<T> base) {
+        this(base.getHeight(), base.getWidth());
+        for (int row = 0; row < this.rows; row++) {
+            for (int column = 0; column < this.columns; column++) {
+                this.set(row, column, base.get(row, column));
+            }
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return this.columns;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.rows;
+    }
+
+    @Override
+    public T get(final Coordinates2D<Integer> coord) {
+        return this.get(coord.getX(), coord.getY());
+    }
+
+    @Override
+    public void set(final Coordinates2D<Integer> coord, final T value) {
+        this.set(coord.getX(), coord.getY(), value);
+    }
+
+    @Override
+    public boolean isCoordValid(final Coordinates2D<Integer> coord) {
+        return true;
+    }
+
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return true;
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return IntStream.range(0, this.rows * this.columns)
+            .mapToObj(i -> this.elementAt(i / this.columns, i % this.columns));
+    }
+
+    @Override
+    public T get(final int row, final int column) {
+        if (row >= -1 && row <= this.rows && column >= -1 && column <= this.columns) {
+            return this.elementAt(row, column);
+        }
+        return this.elementAt(wrap(row, this.rows), wrap(column, this.columns));
+    }
+
+    @Override
+    public void set(final int row, final int column, final T value) {
+        final int wrappedRow = wrap(row, this.rows);
+        final int wrappedColumn = wrap(column, this.columns);
+        if (wrappedRow > 0 && wrappedRow < this.rows - 1 && wrappedColumn > 0 && wrappedColumn < this.columns - 1) {
+            this.cells[this.indexOf(wrappedRow, wrappedColumn)] = value;
+            return;
+        }
+        for (int i = 0; i < ALIASES; i++) {
+            final int aliasRow = alias(wrappedRow, this.rows, i);
+            for (int j = 0; aliasRow != NONE && j < ALIASES; j++) {
+                final int aliasColumn = alias(wrappedColumn, this.columns, j);
+                if (aliasColumn != NONE) {
+                    this.cells[this.indexOf(aliasRow, aliasColumn)] = value;
+                }
+            }
+        }
+    }
+
+    @Override
+    public <O> Grid2D<O> map(final Function<T, O> mapper) {
+        return Grids.of(this.rows, this.columns, coord -> mapper.apply(this.elementAt(coord.getX(), coord.getY())));
+    }
+
+    /**
+     * Return the i-th position of the padded array, ghost border included, that holds the given coordinate,
+     * or {@link #NONE} if there is not such position.
+     */
+    private static int alias(final int coord, final int size, final int i) {
+        switch (i) {
+            case 0:
+                return coord;
+            case 1:
+                return coord == 0 ? size : NONE;
+            default:
+                return coord == size - 1 ? -1 : NONE;
+        }
+    }
+
+    private int indexOf(final int row, final int column) {
+        return (row + 1) * this.stride + column + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(final int row, final int column) {
+        return (T) this.cells[this.indexOf(row, column)];
+    }
+
+    private static int wrap(final int coord, final int maxValue) {
+        return Math.floorMod(coord, maxValue);
+    }
+}
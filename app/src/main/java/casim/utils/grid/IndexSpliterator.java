@@ -0,0 +1,76 @@
+package casim.utils.grid;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * {@link Spliterator} over the elements of a {@link Grid} addressed by a linear index.
+ * It knows its exact size and splits in two halves of the index range, so the streams built on it
+ * are SIZED and SUBSIZED and can be evenly divided among the threads of a parallel stream.
+ *
+ * @param <T> the type of the elements.
+ */
+public final class IndexSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED;
+
+    private final IntFunction<T> accessor;
+    private int index;
+    private final int fence;
+
+    /**
+     * Construct a new {@link IndexSpliterator} over the indexes from 0 (included) to size (excluded).
+     *
+     * @param size the number of elements.
+     * @param accessor the function that returns the element at a given index.
+     */
+    public IndexSpliterator(final int size, final IntFunction<T> accessor) {
+        this(0, size, accessor);
+    }
+
+    private IndexSpliterator(final int origin, final int fence, final IntFunction<T> accessor) {
+        this.index = origin;
+        this.fence = fence;
+        this.accessor = accessor;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (this.index < this.fence) {
+            action.accept(this.accessor.apply(this.index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        final int end = this.fence;
+        for (int i = this.index; i < end; i++) {
+            action.accept(this.accessor.apply(i));
+        }
+        this.index = end;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int origin = this.index;
+        final int middle = origin + (this.fence - origin) / 2;
+        if (middle <= origin) {
+            return null;
+        }
+        this.index = middle;
+        return new IndexSpliterator<>(origin, middle, this.accessor);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,40 @@
+package casim.utils.grid;
+
+import casim.utils.coordinate.Coordinates;
+
+/**
+ * A {@link Grid} whose elements can also be accessed through a single primitive index, without any bound check.
+ * The index of a cell is given by the {@code indexOf} methods of the sub-interfaces and
+ * goes from 0 (included) to {@link #size()} (excluded).
+ * These accessors are meant for the rule engines that have already validated their iteration bounds.
+ *
+ * @param <K> type of the {@link Coordinates} contained in {@link IndexedGrid}.
+ * @param <V> type of the elements contained in {@link IndexedGrid}.
+ */
+public interface IndexedGrid<K extends Coordinates<? extends Number>, V> extends Grid<K, V> {
+
+    /**
+     * Return the number of cells of the {@link IndexedGrid}.
+     *
+     * @return the number of cells of the {@link IndexedGrid}.
+     */
+    int size();
+
+    /**
+     * Return the value at the given index, without checking the bounds of the {@link IndexedGrid}.
+     * The result of an index outside the valid range is unspecified.
+     *
+     * @param index the index of the element to get.
+     * @return the value at index.
+     */
+    V getUnchecked(int index);
+
+    /**
+     * Set the element at the given index, without checking the bounds of the {@link IndexedGrid}.
+     * The result of an index outside the valid range is unspecified.
+     *
+     * @param index the index of the element to set.
+     * @param value to set.
+     */
+    void setUnchecked(int index, V value);
+}
@@ -0,0 +1,27 @@
+package casim.utils.grid;
+
+import casim.utils.coordinate.Coordinates2D;
+
+/**
+ * {@link Grid2D} that allows the access to its elements through a row-major primitive index.
+ *
+ * @param <T> the type of data contained in {@link IndexedGrid2D}.
+ */
+public interface IndexedGrid2D<T> extends Grid2D<T>, IndexedGrid<Coordinates2D<Integer>, T> {
+
+    /**
+     * Return the index of the element at the given position, without checking the bounds.
+     *
+     * @param row of the element.
+     * @param column of the element.
+     * @return the index of the element.
+     */
+    default int indexOf(final int row, final int column) {
+        return row * this.getWidth() + column;
+    }
+
+    @Override
+    default int size() {
+        return this.getHeight() * this.getWidth();
+    }
+}
@@ -0,0 +1,29 @@
+package casim.utils.grid;
+
+import casim.utils.coordinate.Coordinates3D;
+
+/**
+ * {@link Grid3D} that allows the access to its elements through a primitive index,
+ * where the row is the fastest varying coordinate, followed by the column and then the depth.
+ *
+ * @param <T> the type of data contained in {@link IndexedGrid3D}.
+ */
+public interface IndexedGrid3D<T> extends Grid3D<T>, IndexedGrid<Coordinates3D<Integer>, T> {
+
+    /**
+     * Return the index of the element at the given position, without checking the bounds.
+     *
+     * @param row of the element.
+     * @param column of the element.
+     * @param depth of the element.
+     * @return the index of the element.
+     */
+    default int indexOf(final int row, final int column, final int depth) {
+        return row + this.getHeight() * (column + this.getWidth() * depth);
+    }
+
+    @Override
+    default int size() {
+        return this.getHeight() * this.getWidth() * this.getDepth();
+    }
+}
@@ -0,0 +1,159 @@
+package casim.utils.grid;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Open addressing hash map with primitive long keys, so that the lookups neither box the key nor
+ * allocate entries. Collisions are resolved by linear probing and removals shift back the following
+ * entries of the probe sequence, so no tombstones are left.
+ *
+ * @param <V> the type of the values, that can not be null.
+ */
+//package-private
+final class LongKeyMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final int LONG_BITS = 64;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int shift;
+
+    /**
+     * Construct a new empty {@link LongKeyMap}.
+     */
+    LongKeyMap() {
+        this.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Return the value associated to the key.
+     *
+     * @param key the key.
+     * @return the value associated to the key, or null if there is not such value.
+     */
+    V get(final long key) {
+        for (int i = this.slotOf(key); this.values[i] != null; i = this.nextSlot(i)) {
+            if (this.keys[i] == key) {
+                return this.cast(this.values[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Associate the value to the key, replacing the previous one.
+     *
+     * @param key the key.
+     * @param value the value, it can not be null.
+     */
+    void put(final long key, final V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not allowed.");
+        }
+        int i = this.slotOf(key);
+        for (; this.values[i] != null; i = this.nextSlot(i)) {
+            if (this.keys[i] == key) {
+                this.values[i] = value;
+                return;
+            }
+        }
+        this.keys[i] = key;
+        this.values[i] = value;
+        this.size++;
+        if (this.size * 2 > this.values.length) {
+            this.resize();
+        }
+    }
+
+    /**
+     * Remove the value associated to the key, if any.
+     *
+     * @param key the key.
+     */
+    void remove(final long key) {
+        int i = this.slotOf(key);
+        while (this.values[i] != null && this.keys[i] != key) {
+            i = this.nextSlot(i);
+        }
+        if (this.values[i] == null) {
+            return;
+        }
+        this.values[i] = null;
+        this.size--;
+        // Shift back the following entries that would not be reachable anymore from their slot.
+        for (int next = this.nextSlot(i); this.values[next] != null; next = this.nextSlot(next)) {
+            final int slot = this.slotOf(this.keys[next]);
+            if ((next - slot & this.mask()) >= (next - i & this.mask())) {
+                this.keys[i] = this.keys[next];
+                this.values[i] = this.values[next];
+                this.values[next] = null;
+                i = next;
+            }
+        }
+    }
+
+    /**
+     * Return the number of entries of the map.
+     *
+     * @return the number of entries of the map.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Perform the given action for every key of the map.
+     * The map must not be modified during the iteration.
+     *
+     * @param action the action to be performed.
+     */
+    void forEachKey(final LongConsumer action) {
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != null) {
+                action.accept(this.keys[i]);
+            }
+        }
+    }
+
+    private void resize() {
+        final long[] oldKeys = this.keys;
+        final Object[] oldValues = this.values;
+        this.allocate(oldValues.length * 2);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = this.slotOf(oldKeys[i]);
+                while (this.values[slot] != null) {
+                    slot = this.nextSlot(slot);
+                }
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.shift = LONG_BITS - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    private int slotOf(final long key) {
+        return (int) (key * HASH_MULTIPLIER >>> this.shift);
+    }
+
+    private int nextSlot(final int slot) {
+        return slot + 1 & this.mask();
+    }
+
+    private int mask() {
+        return this.values.length - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V cast(final Object value) {
+        return (V) value;
+    }
+}
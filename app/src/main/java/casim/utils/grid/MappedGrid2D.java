@@ -0,0 +1,88 @@
+package casim.utils.grid;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import casim.utils.coordinate.Coordinates2D;
+
+/**
+ * Read-only {@link Grid2D} view of another {@link Grid2D} that applies a mapper function to each element on access.
+ * The view does not copy the source, so it always reflects its current content.
+ *
+ * @param <I> the type of the elements contained in the source {@link Grid2D}.
+ * @param <T> the type of the elements contained in {@link MappedGrid2D}.
+ */
+//package-private
+final class MappedGrid2D<I, T> implements Grid2D<T> {
+
+    private static final String READ_ONLY = "A mapped view can not be modified.";
+
+    private final Grid2D<I> source;
+    private final Function<I, T> mapper;
+
+    /**
+     * Construct a new {@link MappedGrid2D}.
+     *
+     * @param source the {@link Grid2D} to be mapped.
+     * @param mapper the function applied to the elements of the source.
+     */
+    MappedGrid2D(final Grid2D<I> source, final Function<I, T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public int getWidth() {
+        return this.source.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return this.source.getHeight();
+    }
+
+    @Override
+    public T get(final Coordinates2D<Integer> coord) {
+        return this.mapper.apply(this.source.get(coord));
+    }
+
+    @Override
+    public void set(final Coordinates2D<Integer> coord, final T value) {
+        throw new UnsupportedOperationException(READ_ONLY);
+    }
+
+    @Override
+    public boolean isCoordValid(final Coordinates2D<Integer> coord) {
+        return this.source.isCoordValid(coord);
+    }
+
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return this.source.isCoordValid(row, column);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return this.source.stream().map(this.mapper);
+    }
+
+    @Override
+    public T get(final int row, final int column) {
+        return this.mapper.apply(this.source.get(row, column));
+    }
+
+    @Override
+    public void set(final int row, final int column, final T value) {
+        throw new UnsupportedOperationException(READ_ONLY);
+    }
+
+    @Override
+    public <O> Grid2D<O> map(final Function<T, O> mapper) {
+        return this.source.map(this.mapper.andThen(mapper));
+    }
+
+    @Override
+    public <O> Grid2D<O> view(final Function<T, O> mapper) {
+        return new MappedGrid2D<>(this.source, this.mapper.andThen(mapper));
+    }
+}
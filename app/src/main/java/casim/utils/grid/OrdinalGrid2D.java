@@ -0,0 +1,171 @@
+package casim.utils.grid;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * Implementation of {@link Grid2D} for enum values that stores a single byte per cell.
+ * Each cell holds the ordinal of its constant shifted by one, so that zero represents null.
+ *
+ * @param <E> the enum type of the elements contained in {@link OrdinalGrid2D}.
+ */
+public class OrdinalGrid2D<E extends Enum<E>> implements IndexedGrid2D<E> {
+
+    private static final int MAX_CONSTANTS = 255;
+    private static final int BYTE_MASK = 0xFF;
+
+    private final int rows;
+    private final int columns;
+    private final E[] constants;
+    private final byte[] cells;
+
+    /**
+     * Construct a new {@link OrdinalGrid2D} filled with nulls.
+     *
+     * @param type the class of the enum stored in the {@link Grid2D}, it can have at most 255 constants.
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     */
+    public OrdinalGrid2D(final Class<E> type, final int rows, final int columns) {
+        this.constants = type.getEnumConstants();
+        if (this.constants.length > MAX_CONSTANTS) {
+            throw new IllegalArgumentException("Too many constants in " + type.getSimpleName());
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new byte[rows * columns];
+    }
+
+    /**
+     * Construct a new {@link OrdinalGrid2D} with a default value supplier.
+     *
+     * @param type the class of the enum stored in the {@link Grid2D}, it can have at most 255 constants.
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @param defaultValue the default value supplier.
+     */
+    public OrdinalGrid2D(final Class<E> type, final int rows, final int columns, final Supplier<E> defaultValue) {
+        this(type, rows, columns);
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = this.encode(defaultValue.get());
+        }
+    }
+
+    /**
+     * Construct a new {@link OrdinalGrid2D} with a function that maps coordinates to values.
+     *
+     * @param type the class of the enum stored in the {@link Grid2D}, it can have at most 255 constants.
+     * @param rows the number of the rows of the {@link Grid2D}.
+     * @param columns the number of the columns of the {@link Grid2D}.
+     * @param valueFunction the function that maps coordinates to value.
+     */
+    public OrdinalGrid2D(final Class<E> type, final int rows, final int columns,
+            final Function<Coordinates2D<Integer>, E> valueFunction) {
+        this(type, rows, columns);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                this.cells[row * columns + column] = this.encode(valueFunction.apply(CoordinatesUtil.of(row, column)));
+            }
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return this.columns;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.rows;
+    }
+
+    @Override
+    public E get(final int row, final int column) {
+        this.throwIfOutOfBound(row, column);
+        return this.decode(this.cells[row * this.columns + column]);
+    }
+
+    @Override
+    public void set(final int row, final int column, final E value) {
+        this.throwIfOutOfBound(row, column);
+        this.cells[row * this.columns + column] = this.encode(value);
+    }
+
+    @Override
+    public E getUnchecked(final int index) {
+        return this.decode(this.cells[index]);
+    }
+
+    @Override
+    public void setUnchecked(final int index, final E value) {
+        this.cells[index] = this.encode(value);
+    }
+
+    @Override
+    public int indexOf(final int row, final int column) {
+        return row * this.columns + column;
+    }
+
+    @Override
+    public int size() {
+        return this.cells.length;
+    }
+
+    @Override
+    public E get(final Coordinates2D<Integer> coord) {
+        return this.get(coord.getX(), coord.getY());
+    }
+
+    @Override
+    public void set(final Coordinates2D<Integer> coord, final E value) {
+        this.set(coord.getX(), coord.getY(), value);
+    }
+
+    @Override
+    public boolean isCoordValid(final Coordinates2D<Integer> coord) {
+        return this.isCoordValid(coord.getX(), coord.getY());
+    }
+
+    @Override
+    public Stream<E> stream() {
+        return IntStream.range(0, this.cells.length).mapToObj(i -> this.decode(this.cells[i]));
+    }
+
+    @Override
+    public <O> Grid2D<O> map(final Function<E, O> mapper) {
+        final Grid2D<O> output = Grids.of(this.rows, this.columns);
+        for (int row = 0; row < this.rows; row++) {
+            for (int column = 0; column < this.columns; column++) {
+                output.set(row, column, mapper.apply(this.decode(this.cells[row * this.columns + column])));
+            }
+        }
+        return output;
+    }
+
+    private byte encode(final E value) {
+        return value == null ? 0 : (byte) (value.ordinal() + 1);
+    }
+
+    private E decode(final byte value) {
+        final int ordinal = (value & BYTE_MASK) - 1;
+        return ordinal < 0 ? null : this.constants[ordinal];
+    }
+
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return row >= 0 && row < this.rows && column >= 0 && column < this.columns;
+    }
+
+    private void throwIfOutOfBound(final int row, final int column) {
+        if (!this.isCoordValid(row, column)) {
+            throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth()
+                + "Coord: " + CoordinatesUtil.of(row, column));
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package casim.utils.grid;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * {@link Grid2D} with a fixed number of rows that works as a scrolling window over an endless sequence of rows.
+ * The rows are stored in a ring buffer: {@link #scroll()} drops the first row and reuses its storage
+ * as the new last row, without moving the other ones, so the memory does not depend on how many rows
+ * have been scrolled.
+ *
+ * @param <T> the type of the elements contained in {@link RingBufferGrid2D}.
+ */
+public class RingBufferGrid2D<T> implements Grid2D<T> {
+
+    private final int rows;
+    private final int columns;
+    private final Object[] cells;
+    private int head;
+
+    /**
+     * Construct a new {@link RingBufferGrid2D} with a default value supplier.
+     *
+     * @param rows the number of the rows of the window.
+     * @param columns the number of the columns of the window.
+     * @param defaultValue the default value supplier.
+     */
+    public RingBufferGrid2D(final int rows, final int columns, final Supplier<T> defaultValue) {
+        this.rows = rows;
+        this.columns = columns;
+        this.cells = new Object[rows * columns];
+        for (int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = defaultValue.get();
+        }
+    }
+
+    /**
+     * Drop the first row and move the following ones up by one, the last row keeping the values
+     * of the dropped one until it is overwritten.
+     *
+     * @return the {@link RowSpan} of the new last row.
+     */
+    public RowSpan<T> scroll() {
+        this.head = (this.head + 1) % this.rows;
+        return this.getRowSpan(this.rows - 1);
+    }
+
+    /**
+     * Get a view of one specific row, that reads and writes the cells in place.
+     *
+     * @param row the index of the row.
+     * @return the {@link RowSpan} of the row.
+     * @throws IndexOutOfBoundsException if the row is not inside the grid.
+     */
+    public RowSpan<T> getRowSpan(final int row) {
+        return new RowSpan<>(this, row);
+    }
+
+    @Override
+    public int getWidth() {
+        return this.columns;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.rows;
+    }
+
+    @Override
+    public T get(final Coordinates2D<Integer> coord) {
+        return this.get(coord.getX(), coord.getY());
+    }
+
+    @Override
+    public void set(final Coordinates2D<Integer> coord, final T value) {
+        this.set(coord.getX(), coord.getY(), value);
+    }
+
+    @Override
+    public boolean isCoordValid(final Coordinates2D<Integer> coord) {
+        return this.isCoordValid(coord.getX(), coord.getY());
+    }
+
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return row >= 0 && row < this.rows && column >= 0 && column < this.columns;
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(new IndexSpliterator<>(this.cells.length,
+            i -> this.elementAt(i / this.columns, i % this.columns)), false);
+    }
+
+    @Override
+    public T get(final int row, final int column) {
+        this.throwIfOutOfBound(row, column);
+        return this.elementAt(row, column);
+    }
+
+    @Override
+    public void set(final int row, final int column, final T value) {
+        this.throwIfOutOfBound(row, column);
+        this.cells[this.indexOf(row, column)] = value;
+    }
+
+    @Override
+    public <O> Grid2D<O> map(final Function<T, O> mapper) {
+        return Grids.of(this.rows, this.columns, coord -> mapper.apply(this.get(coord)));
+    }
+
+    private int indexOf(final int row, final int column) {
+        final int physicalRow = row + this.head;
+        return (physicalRow < this.rows ? physicalRow : physicalRow - this.rows) * this.columns + column;
+    }
+
+    private void throwIfOutOfBound(final int row, final int column) {
+        if (!this.isCoordValid(row, column)) {
+            throw new IndexOutOfBoundsException("Size: " + this.getHeight() + " x " + this.getWidth()
+                + "Coord: " + CoordinatesUtil.of(row, column));
+        }
+    }
+
+    private T elementAt(final int row, final int column) {
+        return this.cast(this.cells[this.indexOf(row, column)]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(final Object element) {
+        return (T) element;
+    }
+}
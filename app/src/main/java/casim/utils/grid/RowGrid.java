@@ -34,10 +34,19 @@ public class RowGrid<T> implements Grid2D<T> {
      * @return list the specific row to return.
      */
     public List<T> getRow(final int row) {
-        final List<T> list = new ArrayList<>();
-        Ranges.of(0, this.getWidth())
-            .forEach(col -> list.add(this.get(row, col)));
-        return list;
+        return new ArrayList<>(this.getRowSpan(row));
+    }
+
+    /**
+     * Get a view of one specific row of the {@link RowGrid}, that reads and writes the cells in place
+     * instead of copying them, so a row can be computed from the previous one without any allocation.
+     * 
+     * @param row the index of row to return.
+     * @return the {@link RowSpan} of the row.
+     * @throws IndexOutOfBoundsException if the row is not inside the grid.
+     */
+    public RowSpan<T> getRowSpan(final int row) {
+        return new RowSpan<>(this.grid, row);
     }
 
     /**
@@ -50,8 +59,9 @@ public class RowGrid<T> implements Grid2D<T> {
         if (list.size() != this.getWidth()) {
             throw new InvalidParameterException("Wrong list size");
         }
+        final var span = this.getRowSpan(row);
         Ranges.of(0, list.size())
-            .forEach(col -> this.set(row, col, list.get(col)));
+            .forEachInt(col -> span.set(col, list.get(col)));
     }
 
     @Override
@@ -79,6 +89,11 @@ public class RowGrid<T> implements Grid2D<T> {
         return this.grid.isCoordValid(coord);
     }
 
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return this.grid.isCoordValid(row, column);
+    }
+
     @Override
     public Stream<T> stream() {
         return this.grid.stream();
@@ -0,0 +1,69 @@
+package casim.utils.grid;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Fixed size {@link java.util.List} view of a row of a {@link Grid2D}, that reads and writes the cells
+ * of the grid directly without copying them. When the grid is an {@link IndexedGrid2D} the row is
+ * accessed as a slice of its storage, skipping the bound checks of the row and of the grid.
+ *
+ * @param <T> the type of the elements contained in the row.
+ */
+public final class RowSpan<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Grid2D<T> grid;
+    private final IndexedGrid2D<T> indexed;
+    private final int row;
+    private final int offset;
+    private final int size;
+
+    /**
+     * Construct a new {@link RowSpan} over a row of the grid.
+     *
+     * @param grid the grid that contains the row.
+     * @param row the index of the row.
+     * @throws IndexOutOfBoundsException if the row is not inside the grid.
+     */
+    //package-private
+    RowSpan(final Grid2D<T> grid, final int row) {
+        Objects.checkIndex(row, grid.getHeight());
+        this.grid = grid;
+        this.indexed = grid instanceof IndexedGrid2D ? (IndexedGrid2D<T>) grid : null;
+        this.row = row;
+        this.size = grid.getWidth();
+        this.offset = this.indexed == null ? 0 : this.indexed.indexOf(row, 0);
+    }
+
+    @Override
+    public T get(final int column) {
+        Objects.checkIndex(column, this.size);
+        return this.indexed == null ? this.grid.get(this.row, column) : this.indexed.getUnchecked(this.offset + column);
+    }
+
+    @Override
+    public T set(final int column, final T value) {
+        final T previous = this.get(column);
+        if (this.indexed == null) {
+            this.grid.set(this.row, column, value);
+        } else {
+            this.indexed.setUnchecked(this.offset + column, value);
+        }
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Return the index of the row in the grid.
+     *
+     * @return the index of the row.
+     */
+    public int getRow() {
+        return this.row;
+    }
+}
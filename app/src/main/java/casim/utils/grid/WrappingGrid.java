@@ -4,7 +4,6 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import casim.utils.coordinate.Coordinates2D;
-import casim.utils.coordinate.CoordinatesUtil;
 
 /**
  * An N x M wrapped grid of elements of type {@link T}.
@@ -49,6 +48,11 @@ public class WrappingGrid<T> implements Grid2D<T> {
         return true;
     }
 
+    @Override
+    public boolean isCoordValid(final int row, final int column) {
+        return true;
+    }
+
     @Override
     public Stream<T> stream() {
         return this.grid.stream();
@@ -56,12 +60,12 @@ public class WrappingGrid<T> implements Grid2D<T> {
 
     @Override
     public T get(final int row, final int column) {
-        return this.grid.get(this.getWrappedCoordinates(row, column));
+        return this.grid.get(this.wrap(row, this.getHeight()), this.wrap(column, this.getWidth()));
     }
 
     @Override
     public void set(final int row, final int column, final T value) {
-        this.grid.set(this.getWrappedCoordinates(row, column), value);
+        this.grid.set(this.wrap(row, this.getHeight()), this.wrap(column, this.getWidth()), value);
     }
 
     @Override
@@ -69,13 +73,7 @@ public class WrappingGrid<T> implements Grid2D<T> {
         return this.grid.map(mapper);
     }
 
-    private Coordinates2D<Integer> getWrappedCoordinates(final int row, final int column) {
-        return CoordinatesUtil.of(
-            this.wrap(row, this.getHeight()),
-            this.wrap(column, this.getWidth()));
-    }
-
     private int wrap(final int coord, final int maxValue) {
-        return coord < 0 ? coord % maxValue + maxValue : coord % maxValue;
+        return Math.floorMod(coord, maxValue);
     }
 }
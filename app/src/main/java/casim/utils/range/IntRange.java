@@ -0,0 +1,176 @@
+package casim.utils.range;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Range} of primitive int values, that iterates without boxing and can be split
+ * into balanced halves, so that its streams can be run in parallel.
+ */
+public final class IntRange implements Range<Integer> {
+
+    private final int start;
+    private final int step;
+    private final int size;
+
+    /**
+     * Construct a new {@link IntRange}.
+     * 
+     * @param startInclusive the inclusive start of the range.
+     * @param endExclusive the exclusive end of the range.
+     * @param step the step between two consecutive elements, it must be positive.
+     */
+    IntRange(final int startInclusive, final int endExclusive, final int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("The step must be positive.");
+        }
+        this.start = startInclusive;
+        this.step = step;
+        this.size = endExclusive > startInclusive
+            ? (int) (((long) endExclusive - startInclusive + step - 1) / step)
+            : 0;
+    }
+
+    /**
+     * Return the number of elements of the {@link IntRange}.
+     * 
+     * @return the number of elements.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Return the element at the given position, without checking the bounds.
+     * 
+     * @param index the position of the element.
+     * @return the element at position index.
+     */
+    public int get(final int index) {
+        return (int) (this.start + (long) index * this.step);
+    }
+
+    /**
+     * Perform the action for every element of the {@link IntRange}, in order, without boxing them.
+     * 
+     * @param action the action to be performed.
+     */
+    public void forEachInt(final IntConsumer action) {
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.get(i));
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < IntRange.this.size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return IntRange.this.get(this.index++);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntRangeSpliterator(0, this.size);
+    }
+
+    /**
+     * Return a sequential {@link IntStream} of the elements of the {@link IntRange}.
+     * 
+     * @return an {@link IntStream} of the elements.
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(this.spliterator(), false);
+    }
+
+    /**
+     * Return a parallel {@link IntStream} of the elements of the {@link IntRange}.
+     * 
+     * @return a parallel {@link IntStream} of the elements.
+     */
+    public IntStream parallelIntStream() {
+        return StreamSupport.intStream(this.spliterator(), true);
+    }
+
+    @Override
+    public Stream<Integer> stream() {
+        return this.intStream().boxed();
+    }
+
+    /**
+     * Sized spliterator over a part of the {@link IntRange}, addressed by the positions of its elements.
+     */
+    private final class IntRangeSpliterator implements Spliterator.OfInt {
+
+        private int index;
+        private final int fence;
+
+        IntRangeSpliterator(final int origin, final int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            if (this.index < this.fence) {
+                action.accept(IntRange.this.get(this.index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            for (; this.index < this.fence; this.index++) {
+                action.accept(IntRange.this.get(this.index));
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            final int origin = this.index;
+            final int middle = origin + (this.fence - origin) / 2;
+            if (middle <= origin) {
+                return null;
+            }
+            this.index = middle;
+            return new IntRangeSpliterator(origin, middle);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | SORTED | DISTINCT | IMMUTABLE | NONNULL;
+        }
+
+        /**
+         * Return null, because the elements are sorted in their natural order.
+         */
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return null;
+        }
+    }
+}
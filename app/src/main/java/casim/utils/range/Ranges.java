@@ -43,25 +43,27 @@ public final class Ranges {
     }
 
     /**
-     * Creates a {@link Range} of integers with custom step.
+     * Creates an {@link IntRange} of integers with custom step.
+     * 
+     * Throws {@link IllegalArgumentException} if the step is not positive.
      * 
      * @param startInclusive the inclusive start of the range.
      * @param endExclusive the exclusive end of the range.
      * @param step the step between two consecutive elements.
-     * @return an integer {@link Range} that goes from startInclusive to endExclusive with step "step".
+     * @return an {@link IntRange} that goes from startInclusive to endExclusive with step "step".
      */
-    public static Range<Integer> of(final int startInclusive, final int endExclusive, final int step) {
-        return Ranges.of(startInclusive, endExclusive, x -> x + step);
+    public static IntRange of(final int startInclusive, final int endExclusive, final int step) {
+        return new IntRange(startInclusive, endExclusive, step);
     }
 
     /**
-     * Creates a {@link Range} of integers with step of 1.
+     * Creates an {@link IntRange} of integers with step of 1.
      * 
      * @param startInclusive the inclusive start of the range.
      * @param endExclusive the exclusive end of the range.
-     * @return an integer {@link Range} that goes from startInclusive to endExclusive with step 1.
+     * @return an {@link IntRange} that goes from startInclusive to endExclusive with step 1.
      */
-    public static Range<Integer> of(final int startInclusive, final int endExclusive) {
+    public static IntRange of(final int startInclusive, final int endExclusive) {
         return Ranges.of(startInclusive, endExclusive, 1);
     }
 
@@ -0,0 +1,91 @@
+package casim.model.abstraction.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link TotalisticRule} and {@link EnumTotalisticRule}.
+ */
+class TotalisticRuleTest {
+
+    private static final int DEAD = 0;
+    private static final int ALIVE = 1;
+    private static final int DYING = 2;
+    private static final int HIGH_LIFE_BIRTH = 6;
+    private static final Set<Integer> LIFE_BIRTH = Set.of(3);
+    private static final Set<Integer> LIFE_SURVIVAL = Set.of(2, 3);
+
+    /**
+     * Test that the notations of Conway's Game of Life compile to its table.
+     */
+    @Test
+    void testLife() {
+        for (final var notation : List.of("B3/S23", "s23/b3", "23/3")) {
+            final var rule = TotalisticRule.parse(notation);
+            assertEquals(2, rule.getStates());
+            assertEquals(notation, rule.toString());
+            for (int count = 0; count <= TotalisticRule.MAX_NEIGHBORS; count++) {
+                assertEquals(LIFE_BIRTH.contains(count) ? ALIVE : DEAD, rule.next(DEAD, count));
+                assertEquals(LIFE_SURVIVAL.contains(count) ? ALIVE : DEAD, rule.next(ALIVE, count));
+            }
+        }
+        assertEquals(ALIVE, TotalisticRule.parse("B36/S23").next(DEAD, HIGH_LIFE_BIRTH));
+    }
+
+    /**
+     * Test that the notations of Brian's Brain compile to its table, with the alive cells always dying.
+     */
+    @Test
+    void testGenerations() {
+        for (final var notation : List.of("/2/3", "B2/S/C3")) {
+            final var rule = TotalisticRule.parse(notation);
+            assertEquals(3, rule.getStates());
+            for (int count = 0; count <= TotalisticRule.MAX_NEIGHBORS; count++) {
+                assertEquals(count == 2 ? ALIVE : DEAD, rule.next(DEAD, count));
+                assertEquals(DYING, rule.next(ALIVE, count));
+                assertEquals(DEAD, rule.next(DYING, count));
+            }
+        }
+    }
+
+    /**
+     * Test that the invalid rules are rejected.
+     */
+    @Test
+    void testInvalidRules() {
+        for (final var notation : List.of("", "B3", "B9/S23", "B3/S2x", "X3/S23", "/2/1", "/2/x", "1/2/3/4")) {
+            assertThrows(IllegalArgumentException.class, () -> TotalisticRule.parse(notation));
+        }
+    }
+
+    /**
+     * Test for {@link EnumTotalisticRule}, that maps the states of an enumeration to the ones of the rule.
+     */
+    @Test
+    void testEnumRule() {
+        final var rule = new EnumTotalisticRule<>("B3/S23", List.of(Thread.State.NEW, Thread.State.RUNNABLE));
+        assertEquals(Thread.State.RUNNABLE, rule.getAlive());
+        assertEquals(Thread.State.RUNNABLE, rule.next(Thread.State.NEW, 3));
+        assertEquals(Thread.State.NEW, rule.next(Thread.State.RUNNABLE, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new EnumTotalisticRule<>("/2/3", List.of(Thread.State.NEW, Thread.State.RUNNABLE)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new EnumTotalisticRule<>("B3/S23", List.of(Thread.State.NEW, Thread.State.NEW)));
+    }
+
+    /**
+     * Test that {@link EnumTotalisticRule} rejects the states of the enumeration that are not in the rule,
+     * instead of treating them as the dead state.
+     */
+    @Test
+    void testUnmappedState() {
+        final var rule = new EnumTotalisticRule<>("B3/S23", List.of(Thread.State.NEW, Thread.State.RUNNABLE));
+        assertThrows(IllegalArgumentException.class, () -> rule.next(Thread.State.BLOCKED, 3));
+        assertThrows(IllegalArgumentException.class, () -> rule.next(Thread.State.TERMINATED, 0));
+    }
+}
@@ -0,0 +1,69 @@
+package casim.model.abstraction.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ActiveTiles}.
+ */
+class ActiveTilesTest {
+
+    private static final int ROWS = 10;
+    private static final int COLUMNS = 7;
+    private static final int TILE = 4;
+    private static final int TILE_ROWS = 3;
+    private static final int TILES = 6;
+
+    private List<Integer> getActiveCells(final ActiveTiles tiles) {
+        final List<Integer> cells = new ArrayList<>();
+        tiles.forEachActiveCell(0, tiles.getTileRows(), (row, column) -> cells.add(row * COLUMNS + column));
+        return cells;
+    }
+
+    /**
+     * Test that at the beginning every cell is visited once.
+     */
+    @Test
+    void testInitialState() {
+        final var tiles = new ActiveTiles(ROWS, COLUMNS, TILE, false);
+        assertEquals(TILE_ROWS, tiles.getTileRows());
+        assertEquals(TILES, tiles.getActiveCount());
+        final var cells = getActiveCells(tiles);
+        assertEquals(ROWS * COLUMNS, cells.size());
+        assertEquals(ROWS * COLUMNS, cells.stream().distinct().count());
+        assertThrows(IllegalArgumentException.class, () -> new ActiveTiles(ROWS, COLUMNS, 0, false));
+    }
+
+    /**
+     * Test that a changed cell activates the tiles of its neighbors, wrapping only if requested.
+     */
+    @Test
+    void testMarkChanged() {
+        final var clipped = new ActiveTiles(ROWS, COLUMNS, TILE, false);
+        clipped.advance();
+        assertEquals(0, clipped.getActiveCount());
+        assertEquals(List.of(), getActiveCells(clipped));
+        clipped.markChanged(1, 1);
+        clipped.advance();
+        assertEquals(1, clipped.getActiveCount());
+        assertEquals(TILE * TILE, getActiveCells(clipped).size());
+        clipped.markChanged(TILE - 1, TILE - 1);
+        clipped.advance();
+        assertEquals(4, clipped.getActiveCount());
+        clipped.advance();
+        assertEquals(0, clipped.getActiveCount());
+
+        final var wrapping = new ActiveTiles(ROWS, COLUMNS, TILE, true);
+        wrapping.advance();
+        wrapping.markChanged(0, 0);
+        wrapping.advance();
+        assertEquals(4, wrapping.getActiveCount());
+        assertTrue(getActiveCells(wrapping).contains(ROWS * COLUMNS - 1));
+    }
+}
@@ -0,0 +1,127 @@
+package casim.model.abstraction.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import casim.model.codi.cell.CoDiCell;
+import casim.model.codi.cell.builder.utils.CoDiCellSupplier;
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.grid.Grid;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grid3D;
+import casim.utils.grid.Grids;
+import casim.utils.grid.IndexedGrid2D;
+import casim.utils.grid.IndexedGrid3D;
+import casim.utils.grid.WrappingGrid;
+
+/**
+ * Test class for {@link NeighborhoodTable}.
+ */
+class NeighborhoodTableTest {
+
+    private static final int ROWS = 4;
+    private static final int COLUMNS = 5;
+    private static final int DEPTH = 3;
+    private static final int HUGE_SIDE = 1 << 16;
+
+    private final CoDiCellSupplier supplier = new CoDiCellSupplier();
+
+    private List<Integer> getNeighbors(final NeighborhoodTable table, final int index) {
+        final List<Integer> neighbors = new ArrayList<>();
+        for (int k = 0; k < table.getNeighborCount(index); k++) {
+            neighbors.add(table.getNeighbor(index, k));
+        }
+        return neighbors;
+    }
+
+    private void assertSame2D(final NeighborhoodTable table, final Grid2D<CoDiCell> grid, final BiFunction<
+            Pair<Coordinates2D<Integer>, CoDiCell>, Grid<Coordinates2D<Integer>, CoDiCell>,
+            List<Pair<Coordinates2D<Integer>, CoDiCell>>> function) {
+        final IndexedGrid2D<Integer> indices = Grids.of(ROWS, COLUMNS, coord -> coord.getX() * COLUMNS + coord.getY());
+        assertEquals(ROWS * COLUMNS, table.size());
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                final var coord = CoordinatesUtil.of(row, column);
+                final var expected = function.apply(Pair.of(coord, grid.get(coord)), grid).stream()
+                    .map(pair -> indices.get(Math.floorMod(pair.getKey().getX(), ROWS),
+                        Math.floorMod(pair.getKey().getY(), COLUMNS)))
+                    .collect(Collectors.toList());
+                assertEquals(expected, this.getNeighbors(table, indices.indexOf(row, column)));
+            }
+        }
+    }
+
+    /**
+     * Test that the 2D tables list the same neighbors of {@link NeighborsFunctions}, both wrapping and clipped.
+     */
+    @Test
+    void testNeighborhood2D() {
+        final Grid2D<CoDiCell> grid = Grids.of(ROWS, COLUMNS, () -> supplier.get());
+        this.assertSame2D(NeighborhoodTable.moore(ROWS, COLUMNS, false), grid, NeighborsFunctions::mooreNeighborsFunction);
+        this.assertSame2D(NeighborhoodTable.vonNeumann(ROWS, COLUMNS, false), grid, NeighborsFunctions::neighbors2DFunction);
+        this.assertSame2D(NeighborhoodTable.moore(ROWS, COLUMNS, true), new WrappingGrid<>(grid),
+            NeighborsFunctions::mooreNeighborsFunction);
+        this.assertSame2D(NeighborhoodTable.vonNeumann(ROWS, COLUMNS, true), new WrappingGrid<>(grid),
+            NeighborsFunctions::neighbors2DFunction);
+    }
+
+    /**
+     * Test that the 3D tables list the same neighbors of {@link NeighborsFunctions#neighbors3DFunction(Pair, Grid)}.
+     */
+    @Test
+    void testNeighborhood3D() {
+        final Grid3D<CoDiCell> grid = Grids.of(ROWS, COLUMNS, DEPTH, () -> supplier.get());
+        final IndexedGrid3D<Integer> indices = Grids.of(ROWS, COLUMNS, DEPTH,
+            coord -> coord.getX() + ROWS * (coord.getY() + COLUMNS * coord.getZ()));
+        final var clipped = NeighborhoodTable.vonNeumann(ROWS, COLUMNS, DEPTH, false);
+        final var wrapping = NeighborhoodTable.vonNeumann(ROWS, COLUMNS, DEPTH, true);
+        for (int z = 0; z < DEPTH; z++) {
+            for (int y = 0; y < COLUMNS; y++) {
+                for (int x = 0; x < ROWS; x++) {
+                    final var coord = CoordinatesUtil.of(x, y, z);
+                    final int index = indices.indexOf(x, y, z);
+                    assertEquals(NeighborsFunctions.neighbors3DFunction(Pair.of(coord, grid.get(coord)), grid).stream()
+                        .map(pair -> indices.get(pair.getKey()))
+                        .collect(Collectors.toList()), this.getNeighbors(clipped, index));
+                    assertEquals(CoordinatesUtil.get3DNeighbors(coord).stream()
+                        .map(c -> indices.get(Math.floorMod(c.getX(), ROWS), Math.floorMod(c.getY(), COLUMNS),
+                            Math.floorMod(c.getZ(), DEPTH)))
+                        .collect(Collectors.toList()), this.getNeighbors(wrapping, index));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for {@link NeighborhoodTable#count(casim.utils.grid.IndexedGrid, int, java.util.function.Predicate)}.
+     */
+    @Test
+    void testCount() {
+        final IndexedGrid2D<Boolean> grid = Grids.of(ROWS, COLUMNS, coord -> coord.getY() == 0);
+        final var clipped = NeighborhoodTable.moore(ROWS, COLUMNS, false);
+        final var wrapping = NeighborhoodTable.moore(ROWS, COLUMNS, true);
+        assertEquals(2, clipped.count(grid, grid.indexOf(0, 1), x -> x));
+        assertEquals(3, wrapping.count(grid, grid.indexOf(0, 1), x -> x));
+        assertEquals(0, clipped.count(grid, grid.indexOf(0, COLUMNS - 1), x -> x));
+        assertEquals(3, wrapping.count(grid, grid.indexOf(0, COLUMNS - 1), x -> x));
+    }
+
+    /**
+     * Test that the grids with more cells than an int can index are rejected.
+     */
+    @Test
+    void testTooManyCells() {
+        assertThrows(IllegalArgumentException.class, () -> NeighborhoodTable.moore(HUGE_SIDE, HUGE_SIDE, false));
+        assertThrows(IllegalArgumentException.class,
+            () -> NeighborhoodTable.vonNeumann(HUGE_SIDE, HUGE_SIDE, DEPTH, true));
+    }
+}
@@ -1,5 +1,6 @@
 package casim.model.abstraction.utils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -14,8 +15,12 @@ import casim.utils.coordinate.Coordinates2D;
 import casim.utils.coordinate.Coordinates3D;
 import casim.utils.coordinate.CoordinatesUtil;
 import casim.utils.grid.Grid;
+import casim.utils.grid.Grid2D;
 import casim.utils.grid.Grid2DImpl;
 import casim.utils.grid.Grid3DImpl;
+import casim.utils.grid.GridUtils;
+import casim.utils.grid.Grids;
+import casim.utils.range.Ranges;
 
 
 /**
@@ -97,4 +102,37 @@ class NeighborsFunctionsTest {
                 .map(p -> p.getKey())
                 .noneMatch(c -> c.equals(CoordinatesUtil.of(OUT_X + 1, Y, Z))));
     }
+
+    /**
+     * Test for {@link GridUtils#forEachCell(int, int, int, casim.utils.grid.CellConsumer, casim.utils.grid.CellConsumer)}
+     * together with the interior neighbors functions, that must give the same results of the checked ones.
+     */
+    @Test
+    void testInteriorNeighbors() {
+        final List<Integer> visited = new ArrayList<>();
+        final var values = Grids.<Integer>of(ROWS, COLUMNS, c -> c.getX() * COLUMNS + c.getY());
+        final Grid2D<CoDiCell> indexed = Grids.of(ROWS, COLUMNS, () -> supplier.get());
+        GridUtils.forEachCell(ROWS, COLUMNS, 1, (x, y) -> {
+            visited.add(x * COLUMNS + y);
+            final Pair<Coordinates2D<Integer>, CoDiCell> pair = Pair.of(CoordinatesUtil.of(x, y), supplier.get());
+            Assert.assertEquals(NeighborsFunctions.mooreNeighborsFunction(pair, grid2D),
+                NeighborsFunctions.interiorMooreNeighborsFunction(pair, grid2D));
+            Assert.assertEquals(NeighborsFunctions.neighbors2DFunction(pair, grid2D),
+                NeighborsFunctions.interiorNeighbors2DFunction(pair, grid2D));
+            Assert.assertEquals(NeighborsFunctions.mooreNeighborsFunction(pair, indexed),
+                NeighborsFunctions.interiorMooreNeighborsFunction(pair, indexed));
+            Assert.assertEquals(NeighborsFunctions.neighbors2DFunction(pair, indexed),
+                NeighborsFunctions.interiorNeighbors2DFunction(pair, indexed));
+            Assert.assertEquals(NeighborsFunctions.mooreNeighborsFunction(pair, grid2D).stream()
+                    .filter(p -> values.get(p.getLeft()) % 2 == 0).count(),
+                NeighborsFunctions.countInteriorMooreNeighbors(values, x, y, v -> v % 2 == 0));
+            Assert.assertEquals(NeighborsFunctions.neighbors2DFunction(pair, grid2D).stream()
+                    .filter(p -> values.get(p.getLeft()) % 2 == 0).count(),
+                NeighborsFunctions.countInteriorNeighbors2D(values, x, y, v -> v % 2 == 0));
+        }, (x, y) -> {
+            visited.add(x * COLUMNS + y);
+            Assert.assertTrue(x == 0 || y == 0 || x == ROWS - 1 || y == COLUMNS - 1);
+        });
+        Assert.assertEquals(Ranges.of(0, ROWS * COLUMNS).stream().collect(Collectors.toList()), visited);
+    }
 }
@@ -0,0 +1,45 @@
+package casim.model.abstraction.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link RowBandExecutor}.
+ */
+class RowBandExecutorTest {
+
+    private static final int ROWS = 1000;
+    private static final int PARALLELISM = 4;
+    private static final int EXECUTORS = 100;
+
+    private void assertEveryRowOnce(final RowBandExecutor executor) {
+        final var visits = new AtomicIntegerArray(ROWS);
+        executor.forEachBand(ROWS, (startRow, endRow) -> {
+            for (int row = startRow; row < endRow; row++) {
+                visits.incrementAndGet(row);
+            }
+        });
+        for (int row = 0; row < ROWS; row++) {
+            assertEquals(1, visits.get(row));
+        }
+    }
+
+    /**
+     * Test that every row is computed exactly once, on the calling thread and on many executors
+     * sharing the same pool.
+     */
+    @Test
+    void testForEachBand() {
+        this.assertEveryRowOnce(new RowBandExecutor(1));
+        for (int i = 0; i < EXECUTORS; i++) {
+            final var executor = new RowBandExecutor(PARALLELISM);
+            assertEquals(PARALLELISM, executor.getParallelism());
+            this.assertEveryRowOnce(executor);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new RowBandExecutor(0));
+    }
+}
@@ -0,0 +1,90 @@
+package casim.model.abstraction.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+
+/**
+ * Test class for {@link SummedAreaNeighborhood}.
+ */
+class SummedAreaNeighborhoodTest {
+
+    private static final int ROWS = 13;
+    private static final int COLUMNS = 21;
+    private static final int MAX_RANGE = 7;
+    private static final long SEED = 7;
+
+    private int naiveCount(final Grid2D<Boolean> grid, final int row, final int column, final int range,
+            final NeighborhoodShape shape, final boolean wrapping) {
+        int count = 0;
+        for (int i = -range; i <= range; i++) {
+            for (int j = -range; j <= range; j++) {
+                final int r = row + i;
+                final int c = column + j;
+                final boolean inside = shape == NeighborhoodShape.MOORE || Math.abs(i) + Math.abs(j) <= range;
+                final boolean valid = wrapping || r >= 0 && c >= 0 && r < ROWS && c < COLUMNS;
+                if ((i != 0 || j != 0) && inside && valid
+                        && grid.get(Math.floorMod(r, ROWS), Math.floorMod(c, COLUMNS))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Test that the counts match the ones of a naive enumeration, for every shape, range and boundary mode.
+     */
+    @Test
+    void testCount() {
+        final var rng = new Random(SEED);
+        final Grid2D<Boolean> grid = Grids.of(ROWS, COLUMNS, () -> rng.nextBoolean());
+        for (final var shape : NeighborhoodShape.values()) {
+            for (final boolean wrapping : new boolean[] {false, true}) {
+                for (int range = 1; range <= MAX_RANGE; range++) {
+                    final var neighborhood = new SummedAreaNeighborhood<Boolean>(ROWS, COLUMNS, range, shape,
+                        wrapping, x -> x);
+                    neighborhood.update(grid);
+                    for (int row = 0; row < ROWS; row++) {
+                        for (int column = 0; column < COLUMNS; column++) {
+                            assertEquals(naiveCount(grid, row, column, range, shape, wrapping),
+                                neighborhood.count(row, column));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that the range 1 moore neighborhood counts like {@link NeighborsFunctions#mooreNeighborsFunction}
+     * when used as a {@link NeighborsCountFunction}.
+     */
+    @Test
+    void testCountFunction() {
+        final var rng = new Random(SEED);
+        final Grid2D<Boolean> grid = Grids.of(ROWS, COLUMNS, () -> rng.nextBoolean());
+        final var neighborhood = new SummedAreaNeighborhood<Boolean>(ROWS, COLUMNS, 1, NeighborhoodShape.MOORE,
+            false, x -> x);
+        final NeighborsCountFunction<Coordinates2D<Integer>, Boolean> function = neighborhood;
+        neighborhood.update(grid);
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                final var coord = CoordinatesUtil.of(row, column);
+                assertEquals(naiveCount(grid, row, column, 1, NeighborhoodShape.MOORE, false),
+                    function.count(Pair.of(coord, grid.get(coord)), grid));
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> new SummedAreaNeighborhood<Boolean>(ROWS, COLUMNS, 0, NeighborhoodShape.MOORE, false, x -> x));
+    }
+}
@@ -0,0 +1,174 @@
+package casim.model.gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import casim.model.abstraction.utils.NeighborhoodTable;
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+
+/**
+ * Test class for {@link GameOfLife}.
+ */
+class GameOfLifeTest {
+
+    private static final int ROWS = 37;
+    private static final int COLS = 130;
+    private static final int STEPS = 50;
+    private static final long SEED = 42;
+    private static final int BLINKER_SIZE = 5;
+    private static final int PLANE_SIZE = 100;
+    private static final int SOUP_SIZE = 20;
+    private static final int GLIDER_SIZE = 5;
+    private static final int GLIDER_PERIOD = 4;
+    private static final int GLIDER_CELLS = 5;
+    private static final int PARALLELISM = 4;
+
+    private Grid2D<GameOfLifeState> getRandomState(final int rows, final int cols) {
+        final var rng = new Random(SEED);
+        return Grids.of(rows, cols, () -> rng.nextBoolean() ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD);
+    }
+
+    private List<GameOfLifeState> getStates(final GameOfLife automaton) {
+        return automaton.getGrid().stream().map(GameOfLifeCell::getState).collect(Collectors.toList());
+    }
+
+    private void assertSameEvolution(final Grid2D<GameOfLifeState> state) {
+        final var standard = new GameOfLife(state, GameOfLifeEngineType.STANDARD);
+        final var bitPacked = new GameOfLife(state, GameOfLifeEngineType.BIT_PACKED);
+        assertEquals(getStates(standard), getStates(bitPacked));
+        for (int i = 0; i < STEPS; i++) {
+            standard.next();
+            bitPacked.next();
+            assertEquals(getStates(standard), getStates(bitPacked));
+        }
+    }
+
+    /**
+     * Test that the list and cursor contracts of {@link GameOfLifeUpdateRule} give the same cells,
+     * the cursor one reading the neighbors through a {@link NeighborhoodTable}.
+     */
+    @Test
+    void testRuleContracts() {
+        final var state = getRandomState(SOUP_SIZE, SOUP_SIZE);
+        final var grid = Grids.of(SOUP_SIZE, SOUP_SIZE, coord -> new GameOfLifeCell(state.get(coord)));
+        final var neighbors = NeighborhoodTable.moore(SOUP_SIZE, SOUP_SIZE, false).cursor(grid);
+        final var rule = new GameOfLifeUpdateRule();
+        for (int row = 0; row < SOUP_SIZE; row++) {
+            for (int column = 0; column < SOUP_SIZE; column++) {
+                final var pair = Pair.of(CoordinatesUtil.of(row, column), grid.get(row, column));
+                final var expected = rule.getNextCell(pair, grid).getState();
+                assertEquals(expected, rule.getNextCell(pair.getRight(), neighbors.moveTo(grid.indexOf(row, column)))
+                    .getState());
+            }
+        }
+    }
+
+    /**
+     * Test that the parallel {@link GameOfLifeEngineType#STANDARD} engine evolves exactly like the sequential one,
+     * also when there are fewer rows than bands.
+     */
+    @Test
+    void testParallelEngine() {
+        for (final var state : List.of(getRandomState(ROWS, COLS), getRandomState(2, COLS))) {
+            final var sequential = new GameOfLife(state, GameOfLifeEngineType.STANDARD);
+            final var parallel = new GameOfLife(state, GameOfLifeEngineType.STANDARD, PARALLELISM);
+            for (int i = 0; i < STEPS; i++) {
+                sequential.next();
+                parallel.next();
+                assertEquals(getStates(sequential), getStates(parallel));
+            }
+        }
+    }
+
+    /**
+     * Test that the {@link GameOfLifeEngineType#BIT_PACKED} engine evolves exactly like the standard one,
+     * also when the width of the grid is not a multiple of the word size.
+     */
+    @Test
+    void testBitPackedEngine() {
+        assertSameEvolution(getRandomState(ROWS, COLS));
+        assertSameEvolution(getRandomState(COLS, ROWS));
+        assertSameEvolution(getRandomState(1, 1));
+    }
+
+    /**
+     * Test a blinker, that must oscillate with period two.
+     */
+    @Test
+    void testBlinker() {
+        final var state = Grids.of(BLINKER_SIZE, BLINKER_SIZE, () -> GameOfLifeState.DEAD);
+        state.set(2, 1, GameOfLifeState.ALIVE);
+        state.set(2, 2, GameOfLifeState.ALIVE);
+        state.set(2, 3, GameOfLifeState.ALIVE);
+        for (final var engineType : GameOfLifeEngineType.values()) {
+            final var automaton = new GameOfLife(state, engineType);
+            automaton.next();
+            assertEquals(GameOfLifeState.ALIVE, automaton.getGrid().get(1, 2).getState());
+            assertEquals(GameOfLifeState.ALIVE, automaton.getGrid().get(3, 2).getState());
+            assertEquals(GameOfLifeState.DEAD, automaton.getGrid().get(2, 1).getState());
+            automaton.next();
+            assertEquals(GameOfLifeState.ALIVE, automaton.getGrid().get(2, 1).getState());
+            assertEquals(GameOfLifeState.DEAD, automaton.getGrid().get(1, 2).getState());
+        }
+    }
+
+    /**
+     * Test that the {@link GameOfLifeEngineType#SPARSE} engine evolves like the standard one
+     * as long as the pattern does not reach the edges of the grid.
+     */
+    @Test
+    void testSparseEngine() {
+        final var soup = getRandomState(SOUP_SIZE, SOUP_SIZE);
+        final int offset = (PLANE_SIZE - SOUP_SIZE) / 2;
+        final Grid2D<GameOfLifeState> state = Grids.of(PLANE_SIZE, PLANE_SIZE, coord -> {
+            final int x = coord.getX() - offset;
+            final int y = coord.getY() - offset;
+            return x >= 0 && x < SOUP_SIZE && y >= 0 && y < SOUP_SIZE ? soup.get(x, y) : GameOfLifeState.DEAD;
+        });
+        final var standard = new GameOfLife(state, GameOfLifeEngineType.STANDARD);
+        final var sparse = new GameOfLife(state, GameOfLifeEngineType.SPARSE);
+        for (int i = 0; i < offset - 1; i++) {
+            standard.next();
+            sparse.next();
+            assertEquals(getStates(standard), getStates(sparse));
+        }
+    }
+
+    /**
+     * Test that a glider keeps travelling on the unbounded plane of the {@link GameOfLifeEngineType#SPARSE} engine
+     * after it leaves the visible grid.
+     */
+    @Test
+    void testSparseGlider() {
+        final var state = Grids.of(GLIDER_SIZE, GLIDER_SIZE, () -> GameOfLifeState.DEAD);
+        state.set(0, 1, GameOfLifeState.ALIVE);
+        state.set(1, 2, GameOfLifeState.ALIVE);
+        state.set(2, 0, GameOfLifeState.ALIVE);
+        state.set(2, 1, GameOfLifeState.ALIVE);
+        state.set(2, 2, GameOfLifeState.ALIVE);
+        final var automaton = new GameOfLife(state, GameOfLifeEngineType.SPARSE);
+        for (int i = 0; i < PLANE_SIZE * GLIDER_PERIOD; i++) {
+            automaton.next();
+        }
+        final var grid = automaton.getGrid();
+        assertEquals(0, grid.stream().filter(c -> c.getState() == GameOfLifeState.ALIVE).count());
+        int alive = 0;
+        for (int row = PLANE_SIZE; row < PLANE_SIZE + GLIDER_SIZE; row++) {
+            for (int column = PLANE_SIZE; column < PLANE_SIZE + GLIDER_SIZE; column++) {
+                if (grid.get(row, column).getState() == GameOfLifeState.ALIVE) {
+                    alive++;
+                }
+            }
+        }
+        assertEquals(GLIDER_CELLS, alive);
+        assertEquals(state.get(2, 2), grid.get(PLANE_SIZE + 2, PLANE_SIZE + 2).getState());
+    }
+}
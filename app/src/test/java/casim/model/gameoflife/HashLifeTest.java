@@ -0,0 +1,156 @@
+package casim.model.gameoflife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+
+/**
+ * Test class for {@link HashLife}.
+ */
+class HashLifeTest {
+
+    private static final long SEED = 7;
+    private static final int SOUP_SIZE = 16;
+    private static final int VIEW_SIZE = 64;
+    private static final int VIEW_OFFSET = 24;
+    private static final int STEPS = 40;
+    private static final int EXPONENT = 5;
+    private static final int GLIDER_SIZE = 3;
+    private static final int GLIDER_CELLS = 5;
+    private static final int GLIDER_PERIOD = 4;
+    private static final int FAST_EXPONENT = 20;
+    private static final int BLINKER_SIZE = 3;
+    private static final int BLINKER_CELLS = 3;
+    private static final long MAX_STEPS = Long.MAX_VALUE >>> HashLife.MAX_STEP_EXPONENT;
+
+    private Grid2D<GameOfLifeState> getGlider() {
+        final var state = Grids.of(GLIDER_SIZE, GLIDER_SIZE, () -> GameOfLifeState.DEAD);
+        state.set(0, 1, GameOfLifeState.ALIVE);
+        state.set(1, 2, GameOfLifeState.ALIVE);
+        state.set(2, 0, GameOfLifeState.ALIVE);
+        state.set(2, 1, GameOfLifeState.ALIVE);
+        state.set(2, 2, GameOfLifeState.ALIVE);
+        return state;
+    }
+
+    private List<GameOfLifeState> getStates(final Grid2D<GameOfLifeState> grid) {
+        return grid.stream().collect(Collectors.toList());
+    }
+
+    private Grid2D<GameOfLifeState> getView(final HashLife hashLife) {
+        return hashLife.getViewport(-VIEW_OFFSET, -VIEW_OFFSET, VIEW_SIZE, VIEW_SIZE);
+    }
+
+    /**
+     * Test that single generations give the same results of the {@link GameOfLifeEngineType#SPARSE} engine,
+     * which also works on an unbounded plane, through the {@link GameOfLifeEngineType#HASHLIFE} engine.
+     */
+    @Test
+    void testEngine() {
+        final var rng = new Random(SEED);
+        final Grid2D<GameOfLifeState> soup = Grids.of(SOUP_SIZE, SOUP_SIZE,
+            () -> rng.nextBoolean() ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD);
+        final var sparse = new GameOfLife(soup, GameOfLifeEngineType.SPARSE);
+        final var hashLife = new GameOfLife(soup, GameOfLifeEngineType.HASHLIFE);
+        for (int i = 0; i < STEPS; i++) {
+            sparse.next();
+            hashLife.next();
+            assertEquals(sparse.getGrid().stream().map(GameOfLifeCell::getState).collect(Collectors.toList()),
+                hashLife.getGrid().stream().map(GameOfLifeCell::getState).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Test that {@link GameOfLife#advanceBy(long)} and the step exponent of the {@link GameOfLifeEngineType#HASHLIFE}
+     * engine skip ahead to the same generations computed one at a time by the {@link GameOfLifeEngineType#SPARSE}
+     * engine.
+     */
+    @Test
+    void testFastForward() {
+        final var rng = new Random(SEED);
+        final Grid2D<GameOfLifeState> soup = Grids.of(SOUP_SIZE, SOUP_SIZE,
+            () -> rng.nextBoolean() ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD);
+        final var sparse = new GameOfLife(soup, GameOfLifeEngineType.SPARSE);
+        final var hashLife = new GameOfLife(soup, GameOfLifeEngineType.HASHLIFE);
+        final var fastHashLife = new GameOfLife(soup, EXPONENT);
+        sparse.advanceBy(1L << EXPONENT);
+        hashLife.advanceBy(1L << EXPONENT);
+        fastHashLife.next();
+        final var expected = sparse.getGrid().stream().map(GameOfLifeCell::getState).collect(Collectors.toList());
+        assertEquals(expected, hashLife.getGrid().stream().map(GameOfLifeCell::getState).collect(Collectors.toList()));
+        assertEquals(expected,
+            fastHashLife.getGrid().stream().map(GameOfLifeCell::getState).collect(Collectors.toList()));
+        assertThrows(IllegalArgumentException.class, () -> new GameOfLife(soup, -1));
+        assertThrows(IllegalArgumentException.class, () -> new GameOfLife(soup, HashLife.MAX_STEP_EXPONENT + 1));
+        assertThrows(IllegalArgumentException.class, () -> sparse.advanceBy(-1));
+    }
+
+    /**
+     * Test that advancing by a power of two gives the same result of advancing one generation at a time.
+     */
+    @Test
+    void testAdvance() {
+        final var rng = new Random(SEED);
+        final Grid2D<GameOfLifeState> soup = Grids.of(SOUP_SIZE, SOUP_SIZE,
+            () -> rng.nextBoolean() ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD);
+        final var fast = new HashLife(soup);
+        final var slow = new HashLife(soup);
+        fast.advance(EXPONENT);
+        for (int i = 0; i < 1 << EXPONENT; i++) {
+            slow.advance(0);
+        }
+        assertEquals(1 << EXPONENT, fast.getGeneration());
+        assertEquals(slow.getPopulation(), fast.getPopulation());
+        assertEquals(getStates(getView(slow)), getStates(getView(fast)));
+        final var mixed = new HashLife(soup);
+        mixed.advanceBy((1 << EXPONENT) - 1);
+        mixed.advance(0);
+        assertEquals(getStates(getView(slow)), getStates(getView(mixed)));
+        assertThrows(IllegalArgumentException.class, () -> fast.advance(-1));
+        assertThrows(IllegalArgumentException.class, () -> fast.advanceBy(-1));
+    }
+
+    /**
+     * Test that a glider is found where expected after a million of generations.
+     */
+    @Test
+    void testGliderFastForward() {
+        final var hashLife = new HashLife(getGlider());
+        hashLife.advance(FAST_EXPONENT);
+        final long shift = (1L << FAST_EXPONENT) / GLIDER_PERIOD;
+        assertEquals(GLIDER_CELLS, hashLife.getPopulation());
+        assertEquals(getStates(getGlider()), getStates(hashLife.getViewport(shift, shift, GLIDER_SIZE, GLIDER_SIZE)));
+        assertEquals(GameOfLifeState.ALIVE, hashLife.get(shift, shift + 1));
+        assertEquals(GameOfLifeState.DEAD, hashLife.get(0, 1));
+    }
+
+    /**
+     * Test that the largest step keeps the plane readable, and that the generation counter can not overflow.
+     */
+    @Test
+    void testMaxExponent() {
+        final var blinker = Grids.of(BLINKER_SIZE, BLINKER_SIZE, () -> GameOfLifeState.DEAD);
+        for (int column = 0; column < BLINKER_SIZE; column++) {
+            blinker.set(1, column, GameOfLifeState.ALIVE);
+        }
+        final var hashLife = new HashLife(blinker);
+        assertThrows(IllegalArgumentException.class, () -> hashLife.advance(HashLife.MAX_STEP_EXPONENT + 1));
+        for (long i = 0; i < MAX_STEPS; i++) {
+            hashLife.advance(HashLife.MAX_STEP_EXPONENT);
+            assertEquals(BLINKER_CELLS, hashLife.getPopulation());
+            assertEquals(GameOfLifeState.ALIVE, hashLife.get(1, 1));
+        }
+        assertEquals(MAX_STEPS << HashLife.MAX_STEP_EXPONENT, hashLife.getGeneration());
+        assertThrows(IllegalStateException.class, () -> hashLife.advance(HashLife.MAX_STEP_EXPONENT));
+        assertThrows(IllegalStateException.class, () -> hashLife.advanceBy(Long.MAX_VALUE));
+        assertEquals(MAX_STEPS << HashLife.MAX_STEP_EXPONENT, hashLife.getGeneration());
+    }
+}
@@ -0,0 +1,117 @@
+package casim.model.generations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.model.abstraction.automaton.Automaton;
+import casim.model.abstraction.cell.AbstractCell;
+import casim.model.bryansbrain.BryansBrain;
+import casim.model.bryansbrain.BryansBrainCellState;
+import casim.model.gameoflife.GameOfLife;
+import casim.model.gameoflife.GameOfLifeState;
+import casim.utils.automaton.AutomatonFactoryImpl;
+import casim.utils.automaton.config.RuleConfig;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+
+/**
+ * Test class for {@link Generations}.
+ */
+class GenerationsTest {
+
+    private static final int ROWS = 37;
+    private static final int COLS = 70;
+    private static final int STEPS = 30;
+    private static final long SEED = 42;
+    private static final List<BryansBrainCellState> BRAIN_STATES =
+        List.of(BryansBrainCellState.DEAD, BryansBrainCellState.ALIVE, BryansBrainCellState.DYING);
+    private static final String STAR_WARS = "345/2/4";
+    private static final int STAR_WARS_STATES = 4;
+    private static final int PARALLELISM = 4;
+
+    private <S> List<S> getStates(final Automaton<S, ? extends AbstractCell<S>> automaton) {
+        return automaton.getGrid().stream().map(AbstractCell::getState).collect(Collectors.toList());
+    }
+
+    private Grid2D<Integer> getRandomState(final int states) {
+        final var rng = new Random(SEED);
+        return Grids.of(ROWS, COLS, () -> rng.nextInt(states));
+    }
+
+    /**
+     * Test that the rule /2/3 evolves as {@link BryansBrain}, both wrapping and clipped.
+     */
+    @Test
+    void testBryansBrain() {
+        final var state = this.getRandomState(BRAIN_STATES.size());
+        for (final boolean wrapping : List.of(true, false)) {
+            final var generations = new Generations(state, "/2/3", wrapping);
+            final Automaton<BryansBrainCellState, ? extends AbstractCell<BryansBrainCellState>> brain =
+                new BryansBrain(state.map(BRAIN_STATES::get), wrapping);
+            for (int i = 0; i < STEPS; i++) {
+                assertEquals(this.getStates(brain), this.getStates(generations).stream()
+                    .map(BRAIN_STATES::get).collect(Collectors.toList()));
+                generations.next();
+                brain.next();
+            }
+        }
+    }
+
+    /**
+     * Test that the rule B3/S23 evolves as {@link GameOfLife}.
+     */
+    @Test
+    void testGameOfLife() {
+        final var state = this.getRandomState(2);
+        final var generations = new Generations(state, "B3/S23", false);
+        final Automaton<GameOfLifeState, ? extends AbstractCell<GameOfLifeState>> life =
+            new GameOfLife(state.map(x -> x == 1 ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD));
+        for (int i = 0; i < STEPS; i++) {
+            assertEquals(this.getStates(life), this.getStates(generations).stream()
+                .map(x -> x == 1 ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD).collect(Collectors.toList()));
+            generations.next();
+            life.next();
+        }
+    }
+
+    /**
+     * Test that a parallel step computes the same generations as a sequential one.
+     */
+    @Test
+    void testParallelism() {
+        final var state = this.getRandomState(STAR_WARS_STATES);
+        final var sequential = new Generations(state, STAR_WARS, true);
+        final var parallel = new Generations(state, STAR_WARS, true, PARALLELISM);
+        for (int i = 0; i < STEPS; i++) {
+            assertEquals(this.getStates(sequential), this.getStates(parallel));
+            sequential.next();
+            parallel.next();
+        }
+    }
+
+    /**
+     * Test that the rule and the states come from the {@link RuleConfig} through the factory,
+     * and that the states outside the rule are rejected.
+     */
+    @Test
+    void testRuleConfig() {
+        final var generations = new AutomatonFactoryImpl()
+            .getGenerationsRandom(new RuleConfig(ROWS, COLS, false, true, STAR_WARS));
+        assertEquals(STAR_WARS_STATES, generations.getRule().getStates());
+        for (int i = 0; i < STEPS; i++) {
+            generations.next();
+            assertTrue(this.getStates(generations).stream().allMatch(x -> x >= 0 && x < STAR_WARS_STATES));
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> new AutomatonFactoryImpl().getGameOfLife(new RuleConfig(ROWS, COLS, false, false, STAR_WARS)));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Generations(this.getRandomState(STAR_WARS_STATES), "B3/S23", false));
+    }
+}
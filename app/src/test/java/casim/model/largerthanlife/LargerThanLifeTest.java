@@ -0,0 +1,115 @@
+package casim.model.largerthanlife;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.model.abstraction.automaton.Automaton;
+import casim.model.abstraction.cell.AbstractCell;
+import casim.model.gameoflife.GameOfLife;
+import casim.model.gameoflife.GameOfLifeState;
+import casim.utils.grid.Grid2D;
+import casim.utils.grid.Grids;
+
+/**
+ * Test class for {@link LargerThanLife} and {@link LargerThanLifeRule}.
+ */
+class LargerThanLifeTest {
+
+    private static final int ROWS = 31;
+    private static final int COLS = 45;
+    private static final int STEPS = 20;
+    private static final long SEED = 42;
+    private static final String LIFE = "R1,C0,M0,S2..3,B3..3,NM";
+    private static final String BOSCO = "R5,C0,M1,S34..58,B34..45,NM";
+    private static final int BOSCO_RANGE = 5;
+    private static final int BOSCO_MIN_SURVIVAL = 34;
+    private static final int BOSCO_MAX_SURVIVAL = 58;
+    private static final int BOSCO_MIN_BIRTH = 34;
+    private static final int BOSCO_MAX_BIRTH = 45;
+    private static final int BOSCO_SIZE = 64;
+
+    private <S> List<S> getStates(final Automaton<S, ? extends AbstractCell<S>> automaton) {
+        return automaton.getGrid().stream().map(AbstractCell::getState).collect(Collectors.toList());
+    }
+
+    private Grid2D<LargerThanLifeCellState> getRandomState(final int rows, final int cols) {
+        final var rng = new Random(SEED);
+        return Grids.of(rows, cols, () -> rng.nextBoolean() ? LargerThanLifeCellState.ALIVE : LargerThanLifeCellState.DEAD);
+    }
+
+    /**
+     * Compute a step of Bosco's rule on a wrapping grid by visiting the whole neighborhood of every cell.
+     */
+    private Grid2D<LargerThanLifeCellState> naiveBoscoStep(final Grid2D<LargerThanLifeCellState> grid) {
+        final int rows = grid.getHeight();
+        final int cols = grid.getWidth();
+        return Grids.of(rows, cols, coord -> {
+            int count = 0;
+            for (int i = -BOSCO_RANGE; i <= BOSCO_RANGE; i++) {
+                for (int j = -BOSCO_RANGE; j <= BOSCO_RANGE; j++) {
+                    if (grid.get(Math.floorMod(coord.getX() + i, rows), Math.floorMod(coord.getY() + j, cols))
+                            == LargerThanLifeCellState.ALIVE) {
+                        count++;
+                    }
+                }
+            }
+            final boolean alive = grid.get(coord) == LargerThanLifeCellState.ALIVE;
+            final boolean next = alive ? count >= BOSCO_MIN_SURVIVAL && count <= BOSCO_MAX_SURVIVAL
+                : count >= BOSCO_MIN_BIRTH && count <= BOSCO_MAX_BIRTH;
+            return next ? LargerThanLifeCellState.ALIVE : LargerThanLifeCellState.DEAD;
+        });
+    }
+
+    /**
+     * Test that the range 1 rule with the counts of Conway's Game of Life evolves as {@link GameOfLife}.
+     */
+    @Test
+    void testLife() {
+        final var state = this.getRandomState(ROWS, COLS);
+        final var largerThanLife = new LargerThanLife(state, LIFE, false);
+        final Automaton<GameOfLifeState, ? extends AbstractCell<GameOfLifeState>> life = new GameOfLife(
+            state.map(x -> x == LargerThanLifeCellState.ALIVE ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD));
+        for (int i = 0; i < STEPS; i++) {
+            assertEquals(this.getStates(life), this.getStates(largerThanLife).stream()
+                .map(x -> x == LargerThanLifeCellState.ALIVE ? GameOfLifeState.ALIVE : GameOfLifeState.DEAD)
+                .collect(Collectors.toList()));
+            largerThanLife.next();
+            life.next();
+        }
+    }
+
+    /**
+     * Test that Bosco's rule, with range 5 and the cell counting itself, evolves as a naive computation.
+     */
+    @Test
+    void testBosco() {
+        Grid2D<LargerThanLifeCellState> expected = this.getRandomState(BOSCO_SIZE, BOSCO_SIZE);
+        final var largerThanLife = new LargerThanLife(expected, BOSCO, true);
+        for (int i = 0; i < STEPS; i++) {
+            expected = this.naiveBoscoStep(expected);
+            largerThanLife.next();
+            assertEquals(expected.stream().collect(Collectors.toList()), this.getStates(largerThanLife));
+        }
+        assertTrue(this.getStates(largerThanLife).contains(LargerThanLifeCellState.ALIVE));
+    }
+
+    /**
+     * Test that the invalid rules are rejected.
+     */
+    @Test
+    void testInvalidRules() {
+        assertEquals(BOSCO_RANGE, LargerThanLifeRule.parse(BOSCO).getRange());
+        for (final var notation : List.of("", "R5,C0,M1,S34..58,B34..45", "R0,C0,M1,S34..58,B34..45,NM",
+                "R5,C3,M1,S34..58,B34..45,NM", "R5,C0,M2,S34..58,B34..45,NM", "R5,C0,M1,S34,B34..45,NM",
+                "R5,C0,M1,S58..34,B34..45,NM", "R5,C0,M1,S34..58,B34..45,NX", "Rx,C0,M1,S34..58,B34..45,NM")) {
+            assertThrows(IllegalArgumentException.class, () -> LargerThanLifeRule.parse(notation));
+        }
+    }
+}
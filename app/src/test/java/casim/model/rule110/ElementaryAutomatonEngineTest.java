@@ -0,0 +1,90 @@
+package casim.model.rule110;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ElementaryAutomatonEngine}.
+ */
+class ElementaryAutomatonEngineTest {
+
+    private static final long SEED = 110;
+    private static final int WIDTH = 150;
+    private static final int STEPS = 20;
+    private static final int RULE = 110;
+    private static final int MIRRORED_RULE = 124;
+    private static final int LEFT_BIT = 4;
+
+    private boolean[] nextRow(final int rule, final boolean[] row) {
+        final boolean[] next = new boolean[row.length];
+        for (int i = 0; i < row.length; i++) {
+            final int left = i > 0 && row[i - 1] ? LEFT_BIT : 0;
+            final int center = row[i] ? 2 : 0;
+            final int right = i < row.length - 1 && row[i + 1] ? 1 : 0;
+            next[i] = (rule >>> (left + center + right) & 1) != 0;
+        }
+        return next;
+    }
+
+    private boolean[] getRow(final ElementaryAutomatonEngine engine) {
+        final boolean[] row = new boolean[engine.getWidth()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = engine.isAlive(i);
+        }
+        return row;
+    }
+
+    /**
+     * Test every Wolfram rule against a cell by cell computation, on a row that spans more than two words
+     * and is not a multiple of the word size.
+     */
+    @Test
+    void testAllRules() {
+        final var rng = new Random(SEED);
+        for (int rule = 0; rule < ElementaryAutomatonEngine.RULES; rule++) {
+            final var engine = new ElementaryAutomatonEngine(rule, WIDTH);
+            boolean[] expected = new boolean[WIDTH];
+            for (int i = 0; i < WIDTH; i++) {
+                expected[i] = rng.nextBoolean();
+                engine.set(i, expected[i]);
+            }
+            for (int step = 0; step < STEPS; step++) {
+                engine.step();
+                expected = nextRow(rule, expected);
+                assertArrayEquals(expected, getRow(engine), "Rule " + rule);
+            }
+        }
+    }
+
+    /**
+     * Test for {@link ElementaryAutomatonEngine#mirror(int)}.
+     */
+    @Test
+    void testMirror() {
+        assertEquals(MIRRORED_RULE, ElementaryAutomatonEngine.mirror(RULE));
+        for (int rule = 0; rule < ElementaryAutomatonEngine.RULES; rule++) {
+            assertEquals(rule, ElementaryAutomatonEngine.mirror(ElementaryAutomatonEngine.mirror(rule)));
+        }
+    }
+
+    /**
+     * Test the accessors and the validation of the arguments.
+     */
+    @Test
+    void testCells() {
+        final var engine = new ElementaryAutomatonEngine(RULE, WIDTH);
+        engine.set(WIDTH - 1, true);
+        engine.set(0, true);
+        engine.set(0, false);
+        assertEquals(1, engine.getPopulation());
+        assertEquals(1L << (WIDTH - 1 - 2 * Long.SIZE), engine.getWords()[2]);
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.isAlive(WIDTH));
+        assertThrows(IllegalArgumentException.class, () -> new ElementaryAutomatonEngine(ElementaryAutomatonEngine.RULES, WIDTH));
+        assertThrows(IllegalArgumentException.class, () -> new ElementaryAutomatonEngine(RULE, 0));
+    }
+}
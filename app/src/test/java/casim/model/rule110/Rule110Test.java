@@ -0,0 +1,65 @@
+package casim.model.rule110;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link Rule110}.
+ */
+class Rule110Test {
+
+    private static final int SIZE = 70;
+    private static final int[] UPDATE = {0, 1, 1, 1, 0, 1, 1, 0};
+    private static final int RIGHT_WEIGHT = 4;
+    private static final int WINDOW_ROWS = 10;
+    private static final int WINDOW_COLUMNS = 20;
+    private static final int GENERATIONS = 300;
+
+    /**
+     * Test that every row follows rule 110 drawn mirrored, with the left neighbor as the lowest bit,
+     * starting from a single alive cell in the top left corner.
+     */
+    @Test
+    void testEvolution() {
+        final var automaton = new Rule110(SIZE);
+        while (automaton.hasNext()) {
+            automaton.next();
+        }
+        final var grid = automaton.getGrid();
+        assertEquals(Rule110CellState.ALIVE, grid.get(0, 0).getState());
+        for (int row = 1; row < SIZE; row++) {
+            for (int column = 0; column < SIZE; column++) {
+                final int left = column > 0 ? grid.get(row - 1, column - 1).getState().getValue() : 0;
+                final int center = grid.get(row - 1, column).getState().getValue();
+                final int right = column < SIZE - 1 ? grid.get(row - 1, column + 1).getState().getValue() : 0;
+                assertEquals(UPDATE[left + 2 * center + RIGHT_WEIGHT * right], grid.get(row, column).getState().getValue());
+            }
+        }
+    }
+
+    /**
+     * Test that an unbounded automaton shows the last generations of a bounded one large enough
+     * not to be clipped, while its grid keeps the same size.
+     */
+    @Test
+    void testUnbounded() {
+        final var unbounded = new Rule110(WINDOW_ROWS, WINDOW_COLUMNS, true);
+        final var reference = new Rule110(GENERATIONS + 1, GENERATIONS + 2, false);
+        for (int i = 0; i < GENERATIONS; i++) {
+            assertTrue(unbounded.hasNext());
+            unbounded.next();
+            reference.next();
+        }
+        final var window = unbounded.getGrid();
+        assertEquals(WINDOW_ROWS, window.getHeight());
+        assertEquals(WINDOW_COLUMNS, window.getWidth());
+        for (int row = 0; row < WINDOW_ROWS; row++) {
+            for (int column = 0; column < WINDOW_COLUMNS; column++) {
+                assertEquals(reference.getGrid().get(GENERATIONS + 1 - WINDOW_ROWS + row, column).getState(),
+                    window.get(row, column).getState());
+            }
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Test class for {@link CoordinatesUtil}.
@@ -23,6 +25,8 @@ class CoordinatesUtilTest {
     static final Coordinates3D<Integer> INTCOORD08 = CoordinatesUtil.of(15, 0, 10);
     static final Coordinates3D<Double> DOUBLECOORD03 = CoordinatesUtil.of(5.5, 10.5, 7.6);
     static final Coordinates3D<Double> DOUBLECOORD04 = CoordinatesUtil.of(7.4, 12.6, 14.9);
+    static final int LONG_SIDE = 1500;
+    static final int SHORT_SIDE = 3;
 
 
     /**
@@ -140,4 +144,44 @@ class CoordinatesUtilTest {
                 CoordinatesUtil.sumInt(INTCOORD05, CoordinatesUtil.of(0, 0, -1))),
                 CoordinatesUtil.get3DNeighbors(INTCOORD05));
     }
+
+    /**
+     * Test that {@link CoordinatesUtil#of(Number, Number)} and {@link CoordinatesUtil#of(Number, Number, Number)}
+     * return the cached instances inside the registered grid sizes.
+     */
+    @Test
+    void testCache() {
+        CoordinatesUtil.registerGridSize(INTCOORD02.getX(), INTCOORD02.getY());
+        CoordinatesUtil.registerGridSize(INTCOORD06.getX(), INTCOORD06.getY(), INTCOORD06.getZ());
+        assertSame(CoordinatesUtil.of(INTCOORD01.getX(), INTCOORD01.getY()),
+            CoordinatesUtil.of(INTCOORD01.getX(), INTCOORD01.getY()));
+        assertSame(CoordinatesUtil.of(INTCOORD05.getX(), INTCOORD05.getY(), INTCOORD05.getZ()),
+            CoordinatesUtil.of(INTCOORD05.getX(), INTCOORD05.getY(), INTCOORD05.getZ()));
+        assertNotSame(CoordinatesUtil.of(-1, 0), CoordinatesUtil.of(-1, 0));
+        assertEquals(CoordinatesUtil.of(-1, 0), CoordinatesUtil.of(-1, 0));
+        assertNotSame(CoordinatesUtil.of(DOUBLECOORD01.getX(), DOUBLECOORD01.getY()),
+            CoordinatesUtil.of(DOUBLECOORD01.getX(), DOUBLECOORD01.getY()));
+        final var coord = CoordinatesUtil.of(INTCOORD01.getX(), INTCOORD01.getY());
+        CoordinatesUtil.registerGridSize(INTCOORD02.getX() + 1, INTCOORD02.getY() + 1);
+        assertSame(coord, CoordinatesUtil.of(INTCOORD01.getX(), INTCOORD01.getY()));
+    }
+
+    /**
+     * Test that every registered grid size is cached whatever the order of the registrations,
+     * also when the grids are large and their bounding box would be huge.
+     */
+    @Test
+    void testCacheUnion() {
+        CoordinatesUtil.registerGridSize(LONG_SIDE, SHORT_SIDE);
+        CoordinatesUtil.registerGridSize(SHORT_SIDE, LONG_SIDE);
+        CoordinatesUtil.registerGridSize(SHORT_SIDE, LONG_SIDE, SHORT_SIDE);
+        CoordinatesUtil.registerGridSize(SHORT_SIDE, SHORT_SIDE, LONG_SIDE);
+        assertSame(CoordinatesUtil.of(LONG_SIDE - 1, SHORT_SIDE - 1), CoordinatesUtil.of(LONG_SIDE - 1, SHORT_SIDE - 1));
+        assertSame(CoordinatesUtil.of(SHORT_SIDE - 1, LONG_SIDE - 1), CoordinatesUtil.of(SHORT_SIDE - 1, LONG_SIDE - 1));
+        assertSame(CoordinatesUtil.of(0, LONG_SIDE - 1, 0), CoordinatesUtil.of(0, LONG_SIDE - 1, 0));
+        assertSame(CoordinatesUtil.of(0, 0, LONG_SIDE - 1), CoordinatesUtil.of(0, 0, LONG_SIDE - 1));
+        assertNotSame(CoordinatesUtil.of(LONG_SIDE - 1, LONG_SIDE - 1), CoordinatesUtil.of(LONG_SIDE - 1, LONG_SIDE - 1));
+        assertNotSame(CoordinatesUtil.of(0, LONG_SIDE - 1, LONG_SIDE - 1),
+            CoordinatesUtil.of(0, LONG_SIDE - 1, LONG_SIDE - 1));
+    }
 }
@@ -0,0 +1,74 @@
+package casim.utils.coordinate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link PackedCoordinates2D} and {@link PackedCoordinates3D}.
+ */
+class PackedCoordinatesTest {
+
+    private static final int[] VALUES = {0, 1, -1, 12, -345, 6789};
+    private static final int[] VALUES_2D = {Integer.MIN_VALUE, Integer.MAX_VALUE};
+    private static final int[] VALUES_3D = {PackedCoordinates3D.MIN_VALUE, PackedCoordinates3D.MAX_VALUE};
+    private static final int OFFSET = 5;
+
+    /**
+     * Test that every 2D coordinate is packed and unpacked without losing its values.
+     */
+    @Test
+    void testPack2D() {
+        for (final int x : concat(VALUES, VALUES_2D)) {
+            for (final int y : concat(VALUES, VALUES_2D)) {
+                final long packed = PackedCoordinates2D.pack(x, y);
+                assertEquals(x, PackedCoordinates2D.getX(packed));
+                assertEquals(y, PackedCoordinates2D.getY(packed));
+                assertEquals(CoordinatesUtil.of(x, y), PackedCoordinates2D.unpack(packed));
+                assertEquals(packed, PackedCoordinates2D.pack(CoordinatesUtil.of(x, y)));
+            }
+        }
+        final long moved = PackedCoordinates2D.translate(PackedCoordinates2D.pack(0, OFFSET), -OFFSET, -OFFSET);
+        assertEquals(PackedCoordinates2D.pack(-OFFSET, 0), moved);
+    }
+
+    /**
+     * Test that every 3D coordinate in the allowed range is packed and unpacked without losing its values.
+     */
+    @Test
+    void testPack3D() {
+        for (final int x : concat(VALUES, VALUES_3D)) {
+            for (final int y : concat(VALUES, VALUES_3D)) {
+                for (final int z : concat(VALUES, VALUES_3D)) {
+                    final long packed = PackedCoordinates3D.pack(x, y, z);
+                    assertEquals(x, PackedCoordinates3D.getX(packed));
+                    assertEquals(y, PackedCoordinates3D.getY(packed));
+                    assertEquals(z, PackedCoordinates3D.getZ(packed));
+                    assertEquals(CoordinatesUtil.of(x, y, z), PackedCoordinates3D.unpack(packed));
+                }
+            }
+        }
+        final long moved = PackedCoordinates3D.translate(PackedCoordinates3D.pack(0, 0, 0), -1, OFFSET, -OFFSET);
+        assertEquals(PackedCoordinates3D.pack(-1, OFFSET, -OFFSET), moved);
+    }
+
+    /**
+     * Test that the 3D values outside the allowed range are rejected instead of being truncated.
+     */
+    @Test
+    void testPack3DOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> PackedCoordinates3D.pack(PackedCoordinates3D.MAX_VALUE + 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> PackedCoordinates3D.pack(0, PackedCoordinates3D.MIN_VALUE - 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> PackedCoordinates3D.pack(0, 0, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class,
+            () -> PackedCoordinates3D.translate(PackedCoordinates3D.pack(0, 0, PackedCoordinates3D.MAX_VALUE), 0, 0, 1));
+    }
+
+    private static int[] concat(final int[] first, final int[] second) {
+        final int[] result = new int[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package casim.utils.grid;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.range.Ranges;
+
+/**
+ * Test class for {@link ArrayGrid2D}.
+ */
+class ArrayGrid2DTest {
+
+    private static final int DEFAULT_VALUE = 1;
+    private static final int NEW_VALUE = 2;
+    private static final int ROWS = 3;
+    private static final int COLS = 2;
+    private static final int X = 0;
+    private static final int Y = 1;
+
+    private Grid2D<Integer> getGrid() {
+        return new ArrayGrid2D<>(ROWS, COLS, () -> DEFAULT_VALUE);
+    }
+
+    private Grid2D<Integer> getGridWithValues() {
+        return new ArrayGrid2D<>(ROWS, COLS, coord -> coord.getX() * COLS + coord.getY());
+    }
+
+    /**
+     * Test for {@link ArrayGrid2D#get(int, int)} method.
+     */
+    @Test
+    void testGetWithIntegers() {
+        final var grid = getGrid();
+        assertDoesNotThrow(() -> grid.set(X, Y, NEW_VALUE));
+        assertEquals(NEW_VALUE, grid.get(X, Y));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(X, COLS));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(ROWS, Y));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(X, -1));
+    }
+
+    /**
+     * Test for {@link ArrayGrid2D#get(casim.utils.coordinate.Coordinates2D)} method.
+     */
+    @Test
+    void testGetWithCoordinates() {
+        final var grid = getGrid();
+        final var coord = CoordinatesUtil.of(X, Y);
+        assertDoesNotThrow(() -> grid.set(coord, NEW_VALUE));
+        assertEquals(NEW_VALUE, grid.get(coord));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(CoordinatesUtil.of(X, COLS)));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(CoordinatesUtil.of(ROWS, Y)));
+    }
+
+    /**
+     * Test for {@link ArrayGrid2D#getHeight()} and {@link ArrayGrid2D#getWidth()} methods.
+     */
+    @Test
+    void testSize() {
+        assertEquals(ROWS, getGrid().getHeight());
+        assertEquals(COLS, getGrid().getWidth());
+    }
+
+    /**
+     * Test for {@link ArrayGrid2D#isCoordValid(casim.utils.coordinate.Coordinates2D)} method.
+     */
+    @Test
+    void testIsCoordValid() {
+        final var grid = getGrid();
+        for (final var x : Ranges.of(0, ROWS)) {
+            for (final var y : Ranges.of(0, COLS)) {
+                assertTrue(grid.isCoordValid(CoordinatesUtil.of(x, y)));
+            }
+        }
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(-1, 0)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(0, -1)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(ROWS, 0)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(0, COLS)));
+    }
+
+    /**
+     * Test for {@link ArrayGrid2D#stream()} method, the elements must be in row-major order.
+     */
+    @Test
+    void testStream() {
+        final var grid = getGridWithValues();
+        assertEquals(Ranges.of(0, ROWS * COLS).stream().collect(Collectors.toList()),
+            grid.stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Test for {@link ArrayGrid2D#map(java.util.function.Function)} method.
+     */
+    @Test
+    void testMap() {
+        final var grid = getGridWithValues();
+        final var mapped = grid.map(x -> x * NEW_VALUE);
+        assertEquals(ROWS, mapped.getHeight());
+        assertEquals(COLS, mapped.getWidth());
+        final List<Integer> expected = grid.stream().map(x -> x * NEW_VALUE).collect(Collectors.toList());
+        assertEquals(expected, mapped.stream().collect(Collectors.toList()));
+        mapped.set(X, Y, DEFAULT_VALUE);
+        assertEquals(X * COLS + Y, grid.get(X, Y));
+    }
+
+    /**
+     * Test for {@link ArrayGrid2D#getUnchecked(int)} and {@link ArrayGrid2D#setUnchecked(int, Object)} methods.
+     */
+    @Test
+    void testUnchecked() {
+        final var grid = new ArrayGrid2D<Integer>(ROWS, COLS, coord -> coord.getX() * COLS + coord.getY());
+        assertEquals(ROWS * COLS, grid.size());
+        for (final var x : Ranges.of(0, ROWS)) {
+            for (final var y : Ranges.of(0, COLS)) {
+                assertEquals(grid.get(x, y), grid.getUnchecked(grid.indexOf(x, y)));
+            }
+        }
+        grid.setUnchecked(grid.indexOf(X, Y), NEW_VALUE);
+        assertEquals(NEW_VALUE, grid.get(X, Y));
+    }
+}
@@ -0,0 +1,138 @@
+package casim.utils.grid;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.utils.coordinate.CoordinatesUtil;
+import casim.utils.range.Ranges;
+
+/**
+ * Test class for {@link ArrayGrid3D}.
+ */
+class ArrayGrid3DTest {
+
+    private static final int DEFAULT_VALUE = 1;
+    private static final int NEW_VALUE = 2;
+    private static final int ROWS = 3;
+    private static final int COLS = 2;
+    private static final int DEPTH = 4;
+    private static final int X = 2;
+    private static final int Y = 1;
+    private static final int Z = 3;
+
+    private Grid3D<Integer> getGrid() {
+        return new ArrayGrid3D<>(ROWS, COLS, DEPTH, () -> DEFAULT_VALUE);
+    }
+
+    private Grid3D<Integer> getGridWithValues() {
+        return new ArrayGrid3D<>(ROWS, COLS, DEPTH, coord -> coord.getX() + ROWS * (coord.getY() + COLS * coord.getZ()));
+    }
+
+    /**
+     * Test for {@link ArrayGrid3D#get(int, int, int)} and {@link ArrayGrid3D#set(int, int, int, Object)} methods.
+     */
+    @Test
+    void testGetSetWithIntegers() {
+        final var grid = getGrid();
+        assertDoesNotThrow(() -> grid.set(X, Y, Z, NEW_VALUE));
+        assertEquals(NEW_VALUE, grid.get(X, Y, Z));
+        assertEquals(DEFAULT_VALUE, grid.get(0, Y, Z));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(X, COLS, Z));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(ROWS, Y, Z));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(X, Y, DEPTH));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.set(X, Y, -1, NEW_VALUE));
+    }
+
+    /**
+     * Test for {@link ArrayGrid3D#get(casim.utils.coordinate.Coordinates3D)} and
+     * {@link ArrayGrid3D#set(casim.utils.coordinate.Coordinates3D, Object)} methods.
+     */
+    @Test
+    void testGetSetWithCoordinates() {
+        final var grid = getGrid();
+        final var coord = CoordinatesUtil.of(X, Y, Z);
+        assertDoesNotThrow(() -> grid.set(coord, NEW_VALUE));
+        assertEquals(NEW_VALUE, grid.get(coord));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(CoordinatesUtil.of(X, COLS, Z)));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.set(CoordinatesUtil.of(ROWS, Y, Z), NEW_VALUE));
+    }
+
+    /**
+     * Test for {@link ArrayGrid3D#getHeight()}, {@link ArrayGrid3D#getWidth()} and
+     * {@link ArrayGrid3D#getDepth()} methods.
+     */
+    @Test
+    void testSize() {
+        final var grid = getGrid();
+        assertEquals(ROWS, grid.getHeight());
+        assertEquals(COLS, grid.getWidth());
+        assertEquals(DEPTH, grid.getDepth());
+    }
+
+    /**
+     * Test for {@link ArrayGrid3D#isCoordValid(casim.utils.coordinate.Coordinates3D)} method.
+     */
+    @Test
+    void testIsCoordValid() {
+        final var grid = getGrid();
+        for (final var x : Ranges.of(0, ROWS)) {
+            for (final var y : Ranges.of(0, COLS)) {
+                for (final var z : Ranges.of(0, DEPTH)) {
+                    assertTrue(grid.isCoordValid(CoordinatesUtil.of(x, y, z)));
+                }
+            }
+        }
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(-1, 0, 0)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(0, -1, 0)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(0, 0, -1)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(ROWS, 0, 0)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(0, COLS, 0)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(0, 0, DEPTH)));
+    }
+
+    /**
+     * Test for {@link ArrayGrid3D#stream()} method, the elements must be in x-fastest order.
+     */
+    @Test
+    void testStream() {
+        final var grid = getGridWithValues();
+        assertEquals(Ranges.of(0, ROWS * COLS * DEPTH).stream().collect(Collectors.toList()),
+            grid.stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Test for {@link ArrayGrid3D#map(java.util.function.Function)} method.
+     */
+    @Test
+    void testMap() {
+        final var grid = getGridWithValues();
+        final var mapped = grid.map(x -> x * NEW_VALUE);
+        final List<Integer> expected = new ArrayList<>();
+        grid.stream().forEach(x -> expected.add(x * NEW_VALUE));
+        assertEquals(expected, mapped.stream().collect(Collectors.toList()));
+        assertEquals(grid.get(X, Y, Z) * NEW_VALUE, mapped.get(X, Y, Z));
+    }
+
+    /**
+     * Test for {@link ArrayGrid3D#getUnchecked(int)} and {@link ArrayGrid3D#setUnchecked(int, Object)} methods.
+     */
+    @Test
+    void testUnchecked() {
+        final var grid = new ArrayGrid3D<Integer>(ROWS, COLS, DEPTH,
+            coord -> coord.getX() + ROWS * (coord.getY() + COLS * coord.getZ()));
+        assertEquals(ROWS * COLS * DEPTH, grid.size());
+        assertEquals(grid.get(X, Y, Z), grid.getUnchecked(grid.indexOf(X, Y, Z)));
+        assertEquals(grid.indexOf(X, Y, Z), grid.getUnchecked(grid.indexOf(X, Y, Z)));
+        grid.setUnchecked(grid.indexOf(X, Y, Z), NEW_VALUE);
+        assertEquals(NEW_VALUE, grid.get(X, Y, Z));
+    }
+}
@@ -0,0 +1,111 @@
+package casim.utils.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.utils.coordinate.Coordinates2D;
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * Test class for {@link ChunkedGrid2D}.
+ */
+class ChunkedGrid2DTest {
+
+    private static final int ROWS = 3;
+    private static final int COLS = 2;
+    private static final int BACKGROUND = 0;
+    private static final int VALUE = 7;
+    private static final int FAR = 1_000_000;
+    private static final int TILE = ChunkedGrid2D.TILE_SIZE;
+    private static final int OPERATIONS = 20_000;
+    private static final int SPREAD = 2_000;
+    private static final long SEED = 42;
+
+    /**
+     * Test that any coordinate, negative ones included, can be read and written.
+     */
+    @Test
+    void testUnbounded() {
+        final var grid = new ChunkedGrid2D<>(ROWS, COLS, BACKGROUND);
+        assertEquals(BACKGROUND, grid.get(-FAR, FAR));
+        grid.set(-FAR, FAR, VALUE);
+        grid.set(CoordinatesUtil.of(-1, -1), VALUE + 1);
+        assertEquals(VALUE, grid.get(-FAR, FAR));
+        assertEquals(VALUE + 1, grid.get(CoordinatesUtil.of(-1, -1)));
+        assertEquals(BACKGROUND, grid.get(0, 0));
+        assertTrue(grid.isCoordValid(CoordinatesUtil.of(FAR, -FAR)));
+        assertEquals(2, grid.getTileCount());
+    }
+
+    /**
+     * Test that the tiles are allocated on demand and released when they go back to the background.
+     */
+    @Test
+    void testTilesRelease() {
+        final var grid = new ChunkedGrid2D<>(ROWS, COLS, BACKGROUND);
+        grid.set(0, 0, VALUE);
+        grid.set(TILE - 1, TILE - 1, VALUE);
+        assertEquals(1, grid.getTileCount());
+        grid.set(TILE, -1, VALUE);
+        assertEquals(2, grid.getTileCount());
+        assertEquals(List.of(CoordinatesUtil.of(TILE, -TILE)),
+            grid.getTileOrigins().stream().filter(o -> o.getX() != 0).collect(Collectors.toList()));
+        grid.set(0, 0, BACKGROUND);
+        assertEquals(2, grid.getTileCount());
+        grid.set(TILE - 1, TILE - 1, BACKGROUND);
+        grid.set(TILE, -1, BACKGROUND);
+        assertEquals(0, grid.getTileCount());
+    }
+
+    /**
+     * Test that the grid behaves like a map under many random writes, so that the tiles map
+     * keeps finding its entries while they are added and removed.
+     */
+    @Test
+    void testRandomWrites() {
+        final var rng = new Random(SEED);
+        final var grid = new ChunkedGrid2D<>(ROWS, COLS, BACKGROUND);
+        final Map<Coordinates2D<Integer>, Integer> expected = new HashMap<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            final var coord = CoordinatesUtil.of(rng.nextInt(SPREAD) - SPREAD / 2, rng.nextInt(SPREAD) - SPREAD / 2);
+            final int value = rng.nextBoolean() ? BACKGROUND : rng.nextInt(VALUE) + 1;
+            grid.set(coord, value);
+            if (value == BACKGROUND) {
+                expected.remove(coord);
+            } else {
+                expected.put(coord, value);
+            }
+        }
+        expected.forEach((coord, value) -> assertEquals(value, grid.get(coord)));
+        final long tiles = expected.keySet().stream()
+            .map(c -> CoordinatesUtil.of(Math.floorDiv(c.getX(), TILE), Math.floorDiv(c.getY(), TILE)))
+            .distinct().count();
+        assertEquals(tiles, grid.getTileCount());
+        expected.keySet().forEach(coord -> grid.set(coord, BACKGROUND));
+        assertEquals(0, grid.getTileCount());
+    }
+
+    /**
+     * Test for {@link ChunkedGrid2D#stream()} and {@link ChunkedGrid2D#map(java.util.function.Function)} methods,
+     * that must cover only the viewport.
+     */
+    @Test
+    void testViewport() {
+        final Grid2D<Integer> base = Grids.of(ROWS, COLS, coord -> coord.getX() * COLS + coord.getY());
+        final var grid = new ChunkedGrid2D<>(base, BACKGROUND);
+        grid.set(ROWS, COLS, VALUE);
+        assertEquals(ROWS, grid.getHeight());
+        assertEquals(COLS, grid.getWidth());
+        assertEquals(base.stream().collect(Collectors.toList()), grid.stream().collect(Collectors.toList()));
+        assertEquals(base.stream().map(x -> -x).collect(Collectors.toList()),
+            grid.map(x -> -x).stream().collect(Collectors.toList()));
+    }
+}
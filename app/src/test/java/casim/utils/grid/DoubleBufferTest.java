@@ -0,0 +1,45 @@
+package casim.utils.grid;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link DoubleBuffer}.
+ */
+class DoubleBufferTest {
+
+    private static final int ROWS = 3;
+    private static final int COLS = 2;
+    private static final int FRONT_VALUE = 1;
+    private static final int BACK_VALUE = 2;
+
+    /**
+     * Test for {@link DoubleBuffer#swap()} method.
+     */
+    @Test
+    void testSwap() {
+        final Grid2D<Integer> front = Grids.of(ROWS, COLS, () -> FRONT_VALUE);
+        final var buffer = new DoubleBuffer<>(front, Grids.of(ROWS, COLS, () -> BACK_VALUE));
+        final var back = buffer.getBack();
+        assertSame(front, buffer.getFront());
+        assertEquals(BACK_VALUE, back.get(0, 0));
+        assertSame(back, buffer.swap());
+        assertSame(back, buffer.getFront());
+        assertSame(front, buffer.getBack());
+        buffer.swap();
+        assertSame(front, buffer.getFront());
+    }
+
+    /**
+     * Test that the same grid can not be used as both front and back.
+     */
+    @Test
+    void testSameGrid() {
+        final Grid2D<Integer> grid = Grids.of(ROWS, COLS);
+        assertThrows(IllegalArgumentException.class, () -> new DoubleBuffer<>(grid, grid));
+        assertThrows(NullPointerException.class, () -> new DoubleBuffer<>(grid, null));
+    }
+}
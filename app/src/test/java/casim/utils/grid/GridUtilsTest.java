@@ -0,0 +1,38 @@
+package casim.utils.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link GridUtils}.
+ */
+class GridUtilsTest {
+
+    private static final int ROWS = 5;
+    private static final int COLUMNS = 7;
+    private static final int DEPTH = 6;
+    private static final int TILE = 3;
+
+    /**
+     * Test for {@link GridUtils#forEachTiled(int, int, int, int, Cell3DConsumer)} method, every cell must be
+     * visited once and inside a tile the row must be the fastest varying coordinate.
+     */
+    @Test
+    void testForEachTiled3D() {
+        final var grid = Grids.<Integer>of(ROWS, COLUMNS, DEPTH);
+        final List<Integer> visited = new ArrayList<>();
+        GridUtils.forEachTiled(ROWS, COLUMNS, DEPTH, TILE, (x, y, z) -> visited.add(grid.indexOf(x, y, z)));
+        assertEquals(ROWS * COLUMNS * DEPTH, visited.size());
+        assertEquals(ROWS * COLUMNS * DEPTH, new HashSet<>(visited).size());
+        assertEquals(List.of(0, 1, 2, ROWS), visited.subList(0, TILE + 1));
+        assertTrue(visited.indexOf(grid.indexOf(TILE, 0, 0)) > visited.indexOf(grid.indexOf(TILE - 1, TILE - 1, TILE - 1)));
+        assertThrows(IllegalArgumentException.class, () -> GridUtils.forEachTiled(ROWS, COLUMNS, DEPTH, 0, (x, y, z) -> { }));
+    }
+}
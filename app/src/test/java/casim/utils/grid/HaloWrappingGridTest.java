@@ -0,0 +1,93 @@
+package casim.utils.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * Test class for {@link HaloWrappingGrid}.
+ */
+class HaloWrappingGridTest {
+
+    private static final int ROWS = 4;
+    private static final int COLS = 3;
+    private static final int RANGE = 10;
+    private static final int NEW_VALUE = -1;
+
+    private Grid2D<Integer> getBase(final int rows, final int cols) {
+        return Grids.of(rows, cols, coord -> coord.getX() * cols + coord.getY());
+    }
+
+    private void assertSameAsWrappingGrid(final Grid2D<Integer> halo, final Grid2D<Integer> expected) {
+        for (int row = -RANGE; row < RANGE; row++) {
+            for (int column = -RANGE; column < RANGE; column++) {
+                assertEquals(expected.get(row, column), halo.get(row, column));
+            }
+        }
+    }
+
+    /**
+     * Test that {@link HaloWrappingGrid#get(int, int)} wraps like a {@link WrappingGrid},
+     * both on the ghost border and further outside the grid.
+     */
+    @Test
+    void testGet() {
+        final var halo = new HaloWrappingGrid<>(getBase(ROWS, COLS));
+        assertSameAsWrappingGrid(halo, new WrappingGrid<>(getBase(ROWS, COLS)));
+        assertEquals(halo.get(ROWS - 1, COLS - 1), halo.get(-1, -1));
+        assertEquals(halo.get(0, 0), halo.get(CoordinatesUtil.of(ROWS, COLS)));
+        assertTrue(halo.isCoordValid(CoordinatesUtil.of(-RANGE, RANGE)));
+    }
+
+    /**
+     * Test that {@link HaloWrappingGrid#set(int, int, Object)} keeps the ghost border up to date.
+     */
+    @Test
+    void testSet() {
+        final var halo = new HaloWrappingGrid<>(getBase(ROWS, COLS));
+        final var expected = new WrappingGrid<>(getBase(ROWS, COLS));
+        for (int row = -1; row <= ROWS; row++) {
+            for (int column = -1; column <= COLS; column++) {
+                final int value = NEW_VALUE - row * RANGE - column;
+                halo.set(row, column, value);
+                expected.set(row, column, value);
+                assertSameAsWrappingGrid(halo, expected);
+            }
+        }
+    }
+
+    /**
+     * Test the ghost border of grids with a single row or column.
+     */
+    @Test
+    void testSingleRowAndColumn() {
+        for (final var size : new int[][] {{1, COLS}, {ROWS, 1}, {1, 1}}) {
+            final var halo = new HaloWrappingGrid<>(getBase(size[0], size[1]));
+            final var expected = new WrappingGrid<>(getBase(size[0], size[1]));
+            assertSameAsWrappingGrid(halo, expected);
+            halo.set(0, 0, NEW_VALUE);
+            expected.set(0, 0, NEW_VALUE);
+            assertSameAsWrappingGrid(halo, expected);
+        }
+    }
+
+    /**
+     * Test for {@link HaloWrappingGrid#stream()} and {@link HaloWrappingGrid#map(java.util.function.Function)}
+     * methods, the ghost border must not be included.
+     */
+    @Test
+    void testStreamAndMap() {
+        final var halo = new HaloWrappingGrid<>(getBase(ROWS, COLS));
+        assertEquals(getBase(ROWS, COLS).stream().collect(Collectors.toList()), halo.stream().collect(Collectors.toList()));
+        final var mapped = halo.map(x -> -x);
+        assertEquals(ROWS, mapped.getHeight());
+        assertEquals(COLS, mapped.getWidth());
+        assertEquals(halo.stream().map(x -> -x).collect(Collectors.toList()),
+            mapped.stream().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,69 @@
+package casim.utils.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+
+import casim.utils.range.Ranges;
+
+/**
+ * Test class for {@link IndexSpliterator}.
+ */
+class IndexSpliteratorTest {
+
+    private static final int SIZE = 1001;
+    private static final int ROWS = 300;
+    private static final int COLS = 400;
+    private static final int DEPTH = 3;
+
+    /**
+     * Test that the {@link IndexSpliterator} is sized and splits in two halves.
+     */
+    @Test
+    void testSplit() {
+        final var spliterator = new IndexSpliterator<>(SIZE, i -> i);
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(SIZE, spliterator.getExactSizeIfKnown());
+        final var prefix = spliterator.trySplit();
+        assertEquals(SIZE / 2, prefix.estimateSize());
+        assertEquals(SIZE - SIZE / 2, spliterator.estimateSize());
+        prefix.tryAdvance(i -> assertEquals(0, i));
+        spliterator.tryAdvance(i -> assertEquals(SIZE / 2, i));
+        final var single = new IndexSpliterator<>(1, i -> i);
+        assertNull(single.trySplit());
+    }
+
+    /**
+     * Test that sequential and parallel streams contain all the elements in order.
+     */
+    @Test
+    void testStreams() {
+        final var expected = Ranges.of(0, SIZE).stream().collect(Collectors.toList());
+        assertEquals(expected, StreamSupport.stream(new IndexSpliterator<>(SIZE, i -> i), false)
+            .collect(Collectors.toList()));
+        assertEquals(expected, StreamSupport.stream(new IndexSpliterator<>(SIZE, i -> i), true)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * Test that the grids streams keep their order and size, both sequential and parallel.
+     */
+    @Test
+    void testGridStreams() {
+        final Grid2D<Integer> grid2D = new Grid2DImpl<>(ROWS, COLS, coord -> coord.getX() * COLS + coord.getY());
+        final var expected = Ranges.of(0, ROWS * COLS).stream().collect(Collectors.toList());
+        assertEquals(expected, grid2D.stream().collect(Collectors.toList()));
+        assertEquals(expected, grid2D.parallelStream().collect(Collectors.toList()));
+        assertEquals(ROWS * COLS, grid2D.stream().spliterator().getExactSizeIfKnown());
+        final Grid3D<Integer> grid3D = new Grid3DImpl<>(ROWS, COLS, DEPTH,
+            coord -> (coord.getZ() * ROWS + coord.getX()) * COLS + coord.getY());
+        assertEquals(Ranges.of(0, ROWS * COLS * DEPTH).stream().collect(Collectors.toList()),
+            grid3D.parallelStream().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,77 @@
+package casim.utils.grid;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * Test class for {@link MappedGrid2D}.
+ */
+class MappedGrid2DTest {
+
+    private static final int ROWS = 3;
+    private static final int COLS = 2;
+    private static final int X = 2;
+    private static final int Y = 1;
+    private static final int NEW_VALUE = 10;
+
+    private Grid2D<Integer> getGrid() {
+        return Grids.of(ROWS, COLS, coord -> coord.getX() * COLS + coord.getY());
+    }
+
+    /**
+     * Test that {@link Grid2D#view(java.util.function.Function)} maps the elements on access
+     * and reflects the later changes of the source.
+     */
+    @Test
+    void testView() {
+        final var grid = getGrid();
+        final var view = grid.view(x -> x * 2);
+        assertEquals(ROWS, view.getHeight());
+        assertEquals(COLS, view.getWidth());
+        assertEquals(grid.get(X, Y) * 2, view.get(X, Y));
+        grid.set(X, Y, NEW_VALUE);
+        assertEquals(NEW_VALUE * 2, view.get(CoordinatesUtil.of(X, Y)));
+        assertEquals(grid.stream().map(x -> x * 2).collect(Collectors.toList()),
+            view.stream().collect(Collectors.toList()));
+        assertTrue(view.isCoordValid(CoordinatesUtil.of(X, Y)));
+        assertFalse(view.isCoordValid(CoordinatesUtil.of(ROWS, Y)));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(ROWS, Y));
+    }
+
+    /**
+     * Test that a view can not be modified.
+     */
+    @Test
+    void testReadOnly() {
+        final var view = getGrid().view(x -> x * 2);
+        assertThrows(UnsupportedOperationException.class, () -> view.set(X, Y, NEW_VALUE));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(CoordinatesUtil.of(X, Y), NEW_VALUE));
+    }
+
+    /**
+     * Test that {@link MappedGrid2D#map(java.util.function.Function)} returns an independent copy
+     * and that views can be chained.
+     */
+    @Test
+    void testMapAndChain() {
+        final var grid = getGrid();
+        final var view = grid.view(x -> x * 2);
+        final var copy = view.map(x -> x + 1);
+        final var chained = view.view(x -> x + 1);
+        assertEquals(grid.get(X, Y) * 2 + 1, copy.get(X, Y));
+        grid.set(X, Y, NEW_VALUE);
+        assertEquals(NEW_VALUE * 2 + 1, chained.get(X, Y));
+        assertEquals(view.stream().map(x -> x + 1).collect(Collectors.toList()),
+            chained.stream().collect(Collectors.toList()));
+        copy.set(X, Y, 0);
+        assertEquals(NEW_VALUE, grid.get(X, Y));
+    }
+}
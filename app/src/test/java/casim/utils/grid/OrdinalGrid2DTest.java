@@ -0,0 +1,101 @@
+package casim.utils.grid;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import casim.utils.coordinate.CoordinatesUtil;
+
+/**
+ * Test class for {@link OrdinalGrid2D}.
+ */
+class OrdinalGrid2DTest {
+
+    private static final int ROWS = 3;
+    private static final int COLS = 2;
+    private static final int X = 2;
+    private static final int Y = 1;
+
+    private enum TestState {
+        FIRST, SECOND, THIRD
+    }
+
+    private Grid2D<TestState> getGrid() {
+        return new OrdinalGrid2D<>(TestState.class, ROWS, COLS, () -> TestState.FIRST);
+    }
+
+    /**
+     * Test for {@link OrdinalGrid2D#get(int, int)} and {@link OrdinalGrid2D#set(int, int, Enum)} methods.
+     */
+    @Test
+    void testGetSet() {
+        final var grid = getGrid();
+        assertEquals(TestState.FIRST, grid.get(X, Y));
+        grid.set(X, Y, TestState.THIRD);
+        assertEquals(TestState.THIRD, grid.get(X, Y));
+        assertEquals(TestState.THIRD, grid.get(CoordinatesUtil.of(X, Y)));
+        grid.set(CoordinatesUtil.of(0, 0), TestState.SECOND);
+        assertEquals(TestState.SECOND, grid.get(0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(ROWS, Y));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.set(X, COLS, TestState.FIRST));
+    }
+
+    /**
+     * Test that nulls are stored and returned.
+     */
+    @Test
+    void testNull() {
+        final var grid = new OrdinalGrid2D<>(TestState.class, ROWS, COLS);
+        assertNull(grid.get(X, Y));
+        grid.set(X, Y, TestState.SECOND);
+        grid.set(X, Y, null);
+        assertNull(grid.get(X, Y));
+    }
+
+    /**
+     * Test for {@link OrdinalGrid2D#isCoordValid(casim.utils.coordinate.Coordinates2D)} method.
+     */
+    @Test
+    void testIsCoordValid() {
+        final var grid = getGrid();
+        assertTrue(grid.isCoordValid(CoordinatesUtil.of(X, Y)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(-1, 0)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(ROWS, 0)));
+        assertFalse(grid.isCoordValid(CoordinatesUtil.of(0, COLS)));
+    }
+
+    /**
+     * Test for {@link OrdinalGrid2D#stream()} and {@link OrdinalGrid2D#map(java.util.function.Function)} methods.
+     */
+    @Test
+    void testStreamAndMap() {
+        final var grid = new OrdinalGrid2D<>(TestState.class, ROWS, COLS,
+            coord -> TestState.values()[(coord.getX() + coord.getY()) % TestState.values().length]);
+        final List<TestState> states = grid.stream().collect(Collectors.toList());
+        assertEquals(ROWS * COLS, states.size());
+        assertEquals(List.of(TestState.FIRST, TestState.SECOND, TestState.SECOND,
+            TestState.THIRD, TestState.THIRD, TestState.FIRST), states);
+        final var ordinals = grid.map(Enum::ordinal);
+        assertEquals(states.stream().map(Enum::ordinal).collect(Collectors.toList()),
+            ordinals.stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Test for {@link OrdinalGrid2D#getUnchecked(int)} and {@link OrdinalGrid2D#setUnchecked(int, Enum)} methods.
+     */
+    @Test
+    void testUnchecked() {
+        final var grid = new OrdinalGrid2D<>(TestState.class, ROWS, COLS, () -> TestState.FIRST);
+        assertEquals(ROWS * COLS, grid.size());
+        grid.setUnchecked(grid.indexOf(X, Y), TestState.SECOND);
+        assertEquals(TestState.SECOND, grid.get(X, Y));
+        assertEquals(TestState.SECOND, grid.getUnchecked(grid.indexOf(X, Y)));
+    }
+}
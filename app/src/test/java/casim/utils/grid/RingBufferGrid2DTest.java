@@ -0,0 +1,48 @@
+package casim.utils.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link RingBufferGrid2D}.
+ */
+class RingBufferGrid2DTest {
+
+    private static final int DEFAULT_VALUE = 0;
+    private static final int ROWS = 3;
+    private static final int COLS = 2;
+    private static final int SCROLLS = 5;
+
+    /**
+     * Test for {@link RingBufferGrid2D#scroll()}, the rows must move up by one and the last one
+     * must be written through the returned span.
+     */
+    @Test
+    void testScroll() {
+        final var grid = new RingBufferGrid2D<Integer>(ROWS, COLS, () -> DEFAULT_VALUE);
+        for (int row = 0; row < ROWS; row++) {
+            final var span = grid.getRowSpan(row);
+            for (int column = 0; column < COLS; column++) {
+                span.set(column, row);
+            }
+        }
+        for (int i = 0; i < SCROLLS; i++) {
+            final var span = grid.scroll();
+            assertEquals(ROWS - 1, span.getRow());
+            for (int column = 0; column < COLS; column++) {
+                span.set(column, ROWS + i);
+            }
+        }
+        assertEquals(List.of(SCROLLS, SCROLLS, SCROLLS + 1, SCROLLS + 1, SCROLLS + 2, SCROLLS + 2),
+            grid.stream().collect(Collectors.toList()));
+        assertEquals(SCROLLS + 1, grid.get(1, 0));
+        assertEquals(SCROLLS + 2, grid.map(x -> x).get(ROWS - 1, COLS - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(ROWS, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.set(0, COLS, DEFAULT_VALUE));
+    }
+}
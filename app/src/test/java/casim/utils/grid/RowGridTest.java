@@ -1,5 +1,6 @@
 package casim.utils.grid;
 
+import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
@@ -56,4 +57,25 @@ class RowGridTest {
         grid.setRow(0, newRow);
         Assert.assertEquals(newRow, grid.getRow(0));
     }
+
+    /**
+     * Test for {@link RowGrid#getRowSpan(int)}, the span must read and write the grid in place
+     * both when the grid is indexed and when it is not.
+     */
+    @Test
+    void testGetRowSpan() {
+        final var grids = List.of(this.getGridWithValues(),
+            new RowGrid<>(Grids.of(ROWS, COLS, () -> DEFAULT_VALUE)));
+        for (final var grid : grids) {
+            final var span = grid.getRowSpan(ROWS - 1);
+            Assert.assertEquals(COLS, span.size());
+            Assert.assertEquals(grid.getRow(ROWS - 1), span);
+            span.set(COLS - 1, NEW_VALUE);
+            Assert.assertEquals(Integer.valueOf(NEW_VALUE), grid.get(ROWS - 1, COLS - 1));
+            grid.set(ROWS - 1, 0, NEW_VALUE);
+            Assert.assertEquals(Integer.valueOf(NEW_VALUE), span.get(0));
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> span.get(COLS));
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> grid.getRowSpan(ROWS));
+        }
+    }
 }
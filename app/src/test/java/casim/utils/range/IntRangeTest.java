@@ -0,0 +1,76 @@
+package casim.utils.range;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link IntRange}.
+ */
+class IntRangeTest {
+
+    private static final int START = -3;
+    private static final int END = 14;
+    private static final int STEP = 4;
+    private static final int BIG_END = 100_000;
+
+    /**
+     * Test for {@link IntRange#size()} and {@link IntRange#iterator()} methods.
+     */
+    @Test
+    void testIterator() {
+        final var range = Ranges.of(START, END, STEP);
+        final var expected = IntStream.iterate(START, i -> i < END, i -> i + STEP).toArray();
+        assertEquals(expected.length, range.size());
+        final var iterator = range.iterator();
+        for (final int value : expected) {
+            assertTrue(iterator.hasNext());
+            assertEquals(value, iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+        assertEquals(0, Ranges.of(END, START).size());
+        assertThrows(IllegalArgumentException.class, () -> Ranges.of(START, END, 0));
+    }
+
+    /**
+     * Test for {@link IntRange#intStream()}, {@link IntRange#stream()} and
+     * {@link IntRange#forEachInt(java.util.function.IntConsumer)} methods.
+     */
+    @Test
+    void testStreams() {
+        final var range = Ranges.of(START, END, STEP);
+        final var expected = IntStream.iterate(START, i -> i < END, i -> i + STEP).toArray();
+        assertArrayEquals(expected, range.intStream().toArray());
+        assertEquals(IntStream.of(expected).boxed().collect(Collectors.toList()),
+            range.stream().collect(Collectors.toList()));
+        final var builder = IntStream.builder();
+        range.forEachInt(builder);
+        assertArrayEquals(expected, builder.build().toArray());
+    }
+
+    /**
+     * Test that the {@link IntRange} spliterator is sized and that parallel streams keep the order.
+     */
+    @Test
+    void testParallel() {
+        final var range = Ranges.of(0, BIG_END);
+        final var spliterator = range.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        final var prefix = spliterator.trySplit();
+        assertEquals(BIG_END / 2, prefix.estimateSize());
+        assertEquals(BIG_END / 2, spliterator.estimateSize());
+        assertArrayEquals(IntStream.range(0, BIG_END).toArray(), range.parallelIntStream().toArray());
+        assertEquals(IntStream.range(0, BIG_END).asLongStream().sum(),
+            range.parallelIntStream().asLongStream().sum());
+    }
+}